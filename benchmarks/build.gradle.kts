@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core"))
+    jmh(project(":dsp:dsp-api"))
+    jmh(project(":dsp:dsp-system"))
+}
+
+// run a subset with: ./gradlew :benchmarks:jmh -PjmhIncludes=MessageSerializerBenchmark
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+    }
+}
+
+// benchmarks are not part of the distribution
+tasks.withType<PublishToMavenRepository>().configureEach {
+    enabled = false
+}
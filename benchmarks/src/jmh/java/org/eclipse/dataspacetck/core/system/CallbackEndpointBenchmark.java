@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures resolving the handler for a callback path as the number of registered handlers grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallbackEndpointBenchmark {
+    @Param({"10", "100", "1000"})
+    private int handlerCount;
+
+    private DefaultCallbackEndpoint endpoint;
+    private String literalPath;
+    private String patternPath;
+
+    @Setup
+    public void setUp() {
+        endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost:8080").build();
+        Function<InputStream, String> handler = stream -> null;
+        for (var i = 0; i < handlerCount; i++) {
+            endpoint.registerHandler("/negotiations" + i + "/request", handler);
+            endpoint.registerHandler("/negotiations" + i + "/[^/]+/offers", handler);
+        }
+        literalPath = "/negotiations" + (handlerCount - 1) + "/request";
+        patternPath = "/negotiations" + (handlerCount - 1) + "/123/offers";
+    }
+
+    @Benchmark
+    public Function<InputStream, String> resolveLiteral() {
+        return endpoint.resolveHandler(literalPath);
+    }
+
+    @Benchmark
+    public Function<InputStream, String> resolvePattern() {
+        return endpoint.resolveHandler(patternPath);
+    }
+
+    @Benchmark
+    public Function<InputStream, String> resolveMissing() {
+        return endpoint.resolveHandler("/unknown/path");
+    }
+}
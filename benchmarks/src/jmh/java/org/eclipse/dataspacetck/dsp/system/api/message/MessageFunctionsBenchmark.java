@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createAgreement;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createContractRequest;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createNegotiationResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createOffer;
+
+/**
+ * Measures building outbound messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageFunctionsBenchmark {
+
+    @Benchmark
+    public Map<String, Object> contractRequest() {
+        return createContractRequest("consumer1", "offer1", "target", "https://example.com/callback");
+    }
+
+    @Benchmark
+    public Map<String, Object> offer() {
+        return createOffer("provider1", "consumer1", "offer1", "assigner", "assignee", "target", "https://example.com/callback");
+    }
+
+    @Benchmark
+    public Map<String, Object> agreement() {
+        return createAgreement("provider1", "consumer1", "agreement1", "assigner", "assignee", "target");
+    }
+
+    @Benchmark
+    public Map<String, Object> negotiationResponse() {
+        return createNegotiationResponse("provider1", "consumer1", "offered");
+    }
+}
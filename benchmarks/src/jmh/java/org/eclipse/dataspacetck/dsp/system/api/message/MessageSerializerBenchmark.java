@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.apicatalog.jsonld.JsonLd.expand;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.MAPPER;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createDspContext;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createOffer;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
+
+/**
+ * Measures serializing outbound messages and expanding and decoding inbound messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSerializerBenchmark {
+    private Map<String, Object> message;
+    private Map<String, Object> expanded;
+    private ByteArrayOutputStream stream;
+
+    @Setup
+    public void setUp() {
+        message = createOffer("provider1", "consumer1", "offer1", "assigner", "assignee", "target", "https://example.com/callback");
+        expanded = processJsonLd(message, createDspContext());
+        stream = new ByteArrayOutputStream(4096);
+    }
+
+    @Benchmark
+    public String serializeToString() {
+        return serialize(message);
+    }
+
+    @Benchmark
+    public int serializeToStream() {
+        stream.reset();
+        serialize(message, stream);
+        return stream.size();
+    }
+
+    @Benchmark
+    public Map<String, Object> expandWithSharedOptions() {
+        return processJsonLd(message, createDspContext());
+    }
+
+    /**
+     * Expands using options created per message, which is how messages were processed before expansion options were shared.
+     */
+    @Benchmark
+    public JsonArray expandWithNewOptions() throws JsonLdError {
+        var options = new JsonLdOptions();
+        options.setExpandContext(MAPPER.convertValue(createDspContext(), JsonObject.class));
+        options.setCompactArrays(true);
+        return expand(JsonDocument.of(MAPPER.convertValue(message, JsonObject.class))).options(options).get();
+    }
+
+    @Benchmark
+    public ContractOfferMessage decodeTyped() {
+        return ContractOfferMessage.from(expanded);
+    }
+
+    @Benchmark
+    public String decodeWithAccessors() {
+        return stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, expanded) + stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, expanded);
+    }
+}
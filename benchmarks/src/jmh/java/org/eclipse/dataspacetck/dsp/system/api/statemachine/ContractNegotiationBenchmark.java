@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+
+/**
+ * Measures state transitions and reads on a single negotiation with and without contention, using locking and lock-free mode. The negotiation repeatedly transitions from
+ * {@code OFFERED} to {@code OFFERED}, which is legal and leaves the negotiation in the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractNegotiationBenchmark {
+    @Param({"false", "true"})
+    private boolean lockFree;
+
+    private ContractNegotiation negotiation;
+
+    @Setup
+    public void setUp() {
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .correlationId("correlation1")
+                .offerId("offer1")
+                .datasetId("dataset1")
+                .state(OFFERED)
+                .lockFree(lockFree)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void transitionUncontended() {
+        negotiation.transition(OFFERED);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void transitionContended() {
+        negotiation.transition(OFFERED);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ContractNegotiation.State readState() {
+        return negotiation.getState();
+    }
+}
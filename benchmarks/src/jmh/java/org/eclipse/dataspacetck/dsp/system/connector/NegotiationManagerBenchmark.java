@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+
+/**
+ * Measures negotiation lookups as the number of negotiations held by a manager grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NegotiationManagerBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int negotiationCount;
+
+    private ProviderNegotiationManagerImpl manager;
+    private String[] ids;
+    private String[] correlationIds;
+
+    @Setup
+    public void setUp() {
+        manager = new ProviderNegotiationManagerImpl();
+        ids = new String[negotiationCount];
+        correlationIds = new String[negotiationCount];
+        for (var i = 0; i < negotiationCount; i++) {
+            var negotiation = manager.negotiationBuilder()
+                    .correlationId("consumer" + i)
+                    .offerId("offer" + i)
+                    .datasetId("dataset" + i)
+                    .state(REQUESTED)
+                    .build();
+            manager.register(negotiation);
+            ids[i] = negotiation.getId();
+            correlationIds[i] = negotiation.getCorrelationId();
+        }
+    }
+
+    @Benchmark
+    public ContractNegotiation findById() {
+        return manager.findById(ids[ThreadLocalRandom.current().nextInt(negotiationCount)]);
+    }
+
+    @Benchmark
+    public ContractNegotiation findByCorrelationId() {
+        return manager.findByCorrelationId(correlationIds[ThreadLocalRandom.current().nextInt(negotiationCount)]);
+    }
+}
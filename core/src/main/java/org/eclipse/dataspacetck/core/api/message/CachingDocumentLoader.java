@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.apicatalog.jsonld.JsonLdErrorCode.LOADING_DOCUMENT_FAILED;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.core.system.ConfigFunctions.propertyOrEnv;
+
+/**
+ * Resolves JSON-LD documents such as remote contexts, serving bundled copies without going to the network.
+ * <p>
+ * Documents are preloaded from the classpath using the index files found at {@link #CONTEXT_INDEX}, which map document IRIs to
+ * classpath resources. Other documents are only fetched remotely if enabled with {@link #REMOTE_LOADING_CONFIG}, in which case
+ * they are kept in an in-memory LRU cache.
+ */
+public class CachingDocumentLoader implements DocumentLoader {
+    public static final String CONTEXT_INDEX = "META-INF/dataspacetck/jsonld-contexts.properties";
+    public static final String REMOTE_LOADING_CONFIG = TCK_PREFIX + ".jsonld.remote.enabled";
+
+    private static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Map<URI, Document> preloaded;
+    private final Map<URI, Document> cache;
+    private final DocumentLoader remoteLoader;
+
+    /**
+     * Creates a loader preloaded from the classpath. Remote loading is disabled unless enabled by configuration.
+     */
+    public static CachingDocumentLoader create() {
+        var remoteEnabled = Boolean.parseBoolean(propertyOrEnv(REMOTE_LOADING_CONFIG, "false"));
+        var classLoader = CachingDocumentLoader.class.getClassLoader();
+        return new CachingDocumentLoader(loadIndexedDocuments(classLoader), remoteEnabled ? SchemeRouter.defaultInstance() : null, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param preloaded    documents served without loading, keyed by IRI
+     * @param remoteLoader the loader for documents that are not preloaded or null to disable remote loading
+     * @param cacheSize    the maximum number of remotely loaded documents to cache
+     */
+    public CachingDocumentLoader(Map<URI, Document> preloaded, @Nullable DocumentLoader remoteLoader, int cacheSize) {
+        this.preloaded = Map.copyOf(preloaded);
+        this.remoteLoader = remoteLoader;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, Document> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var document = preloaded.get(url);
+        if (document != null) {
+            return document;
+        }
+        document = cache.get(url);
+        if (document != null) {
+            return document;
+        }
+        if (remoteLoader == null) {
+            throw new JsonLdError(LOADING_DOCUMENT_FAILED, "Document is not available locally and remote loading is disabled: " + url);
+        }
+        document = remoteLoader.loadDocument(url, options);
+        cache.put(url, document);
+        return document;
+    }
+
+    /**
+     * Loads the documents listed in all index files visible to the class loader.
+     */
+    public static Map<URI, Document> loadIndexedDocuments(ClassLoader classLoader) {
+        var documents = new HashMap<URI, Document>();
+        try {
+            var indexes = classLoader.getResources(CONTEXT_INDEX);
+            while (indexes.hasMoreElements()) {
+                var index = new Properties();
+                try (var stream = indexes.nextElement().openStream()) {
+                    index.load(stream);
+                }
+                for (var iri : index.stringPropertyNames()) {
+                    documents.put(URI.create(iri), loadResource(classLoader, URI.create(iri), index.getProperty(iri)));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to load JSON-LD context index", e);
+        }
+        return documents;
+    }
+
+    private static Document loadResource(ClassLoader classLoader, URI iri, String resource) {
+        try (var stream = classLoader.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("JSON-LD context resource not found: " + resource);
+            }
+            var document = JsonDocument.of(stream);
+            document.setDocumentUrl(iri);
+            return document;
+        } catch (IOException | JsonLdError e) {
+            throw new RuntimeException("Unable to load JSON-LD context resource: " + resource, e);
+        }
+    }
+}
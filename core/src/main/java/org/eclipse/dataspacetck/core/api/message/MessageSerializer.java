@@ -18,8 +18,10 @@ package org.eclipse.dataspacetck.core.api.message;
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.document.JsonDocument;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
 import jakarta.json.JsonObject;
@@ -27,6 +29,9 @@ import jakarta.json.JsonStructure;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.apicatalog.jsonld.JsonLd.compact;
@@ -40,6 +45,21 @@ public class MessageSerializer {
 
     public static final ObjectMapper MAPPER;
 
+    private static final ObjectWriter STREAM_WRITER;
+
+    private static final String ID = "@id";
+    private static final String TYPE = "@type";
+    private static final String LIST = "@list";
+
+    private static final int MAX_CACHED_CONTEXTS = 64;
+    private static final Map<ContextKey, JsonLdOptions> EXPANSION_OPTIONS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ContextKey, JsonLdOptions> eldest) {
+            return size() > MAX_CACHED_CONTEXTS;
+        }
+    };
+    private static final CachingDocumentLoader DOCUMENT_LOADER = CachingDocumentLoader.create();
+
     static {
         MAPPER = new ObjectMapper();
         MAPPER.registerModule(new JSONPModule());
@@ -50,25 +70,70 @@ public class MessageSerializer {
             }
         };
         MAPPER.registerModule(module);
+        STREAM_WRITER = MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public static String serialize(Object object) {
+        return serializePlainJson(toSerializedForm(object));
+    }
+
+    /**
+     * Serializes the message to the stream. The stream is not closed.
+     */
+    public static void serialize(Object object, OutputStream stream) {
+        serializePlainJson(toSerializedForm(object), stream);
+    }
+
+    public static String serializePlainJson(Object object) {
         try {
-            var compacted = compact(JsonDocument.of(MAPPER.convertValue(object, JsonObject.class)), EMPTY_CONTEXT).get();
-            return MAPPER.writeValueAsString(compacted);
-        } catch (JsonProcessingException | JsonLdError e) {
+            return MAPPER.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public static String serializePlainJson(Object object) {
+    /**
+     * Serializes the object to UTF-8 encoded bytes without JSON-LD processing.
+     */
+    public static byte[] serializePlainJsonBytes(Object object) {
         try {
-            return MAPPER.writeValueAsString(object);
+            return MAPPER.writeValueAsBytes(object);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Serializes the object to the stream without JSON-LD processing. The stream is not closed.
+     */
+    public static void serializePlainJson(Object object, OutputStream stream) {
+        try {
+            STREAM_WRITER.writeValue(stream, object);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the form of the message that is sent on the wire, which is the message compacted against an empty context. Messages
+     * that are already in that form are returned as is, so they can be written without being copied.
+     */
+    public static Object toSerializedForm(Object object) {
+        if (object instanceof Map<?, ?> map && isCompacted(map)) {
+            return object;
+        }
+        try {
+            var document = object instanceof JsonObject jsonObject ? jsonObject : MAPPER.convertValue(object, JsonObject.class);
+            return compact(JsonDocument.of(document), EMPTY_CONTEXT).get();
+        } catch (JsonLdError e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Expands the message read from the stream using the context. Processing state is cached per context instance, so a context must
+     * not be modified after it has been passed in; callers should reuse a shared, immutable context.
+     */
     public static Map<String, Object> processJsonLd(InputStream stream, Map<String, Object> context) {
         try {
             return processJsonLd(MAPPER.readValue(stream, JsonObject.class), context);
@@ -84,10 +149,7 @@ public class MessageSerializer {
     @SuppressWarnings("unchecked")
     private static Map<String, Object> processJsonLd(JsonObject document, Map<String, Object> context) {
         try {
-            var options = new JsonLdOptions();
-            options.setExpandContext(MAPPER.convertValue(context, JsonObject.class));
-            options.setCompactArrays(true);
-            var jsonArray = expand(JsonDocument.of(document)).options(options).get();
+            var jsonArray = expand(JsonDocument.of(document)).options(expansionOptions(context)).get();
             if (jsonArray.isEmpty()) {
                 throw new AssertionError("Invalid Json document, expecting a non-empty array");
             }
@@ -99,8 +161,85 @@ public class MessageSerializer {
         }
     }
 
+    /**
+     * Returns true if compacting the node against an empty context would not change it, i.e. it has no context, all keys are
+     * absolute IRIs or node keywords, and it contains no null values, single-element arrays, or value objects.
+     */
+    private static boolean isCompacted(Map<?, ?> node) {
+        for (var entry : node.entrySet()) {
+            if (!(entry.getKey() instanceof String key) || !isCompactedKey(key) || !isCompactedValue(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCompactedKey(String key) {
+        if (key.startsWith("@")) {
+            return ID.equals(key) || TYPE.equals(key) || LIST.equals(key);
+        }
+        return key.indexOf(':') > 0;
+    }
+
+    private static boolean isCompactedValue(Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Map<?, ?> map) {
+            return isCompacted(map);
+        } else if (value instanceof List<?> list) {
+            return list.size() != 1 && list.stream().allMatch(MessageSerializer::isCompactedValue);
+        }
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+
+    /**
+     * Returns the expansion options for the context. Options are created once per context instance and shared, so they must not be
+     * modified. The least recently used options are evicted when the cache is full.
+     */
+    private static JsonLdOptions expansionOptions(Map<String, Object> context) {
+        var key = new ContextKey(context);
+        synchronized (EXPANSION_OPTIONS) {
+            var options = EXPANSION_OPTIONS.get(key);
+            if (options != null) {
+                return options;
+            }
+        }
+        var options = createExpansionOptions(context);
+        synchronized (EXPANSION_OPTIONS) {
+            var existing = EXPANSION_OPTIONS.putIfAbsent(key, options);
+            return existing != null ? existing : options;
+        }
+    }
+
+    private static JsonLdOptions createExpansionOptions(Map<String, Object> context) {
+        var options = new JsonLdOptions();
+        options.setExpandContext(MAPPER.convertValue(context, JsonObject.class));
+        options.setCompactArrays(true);
+        options.setDocumentLoader(DOCUMENT_LOADER);
+        // the options are shared between threads and the default context and document caches are not thread-safe; remote
+        // documents are already cached by the thread-safe document loader
+        options.setContextCache(null);
+        options.setDocumentCache(null);
+        return options;
+    }
+
     private MessageSerializer() {
     }
 
+    /**
+     * Compares contexts by identity, which avoids hashing their contents on every message.
+     */
+    private record ContextKey(Map<String, Object> context) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ContextKey key && key.context == context;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(context);
+        }
+    }
+
 
 }
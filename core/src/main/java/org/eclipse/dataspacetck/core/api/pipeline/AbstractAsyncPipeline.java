@@ -19,13 +19,17 @@ import org.eclipse.dataspacetck.core.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -34,16 +38,19 @@ import static org.awaitility.Awaitility.await;
 
 /**
  * Base pipeline functionality.
+ * <p>
+ * A pipeline is built and executed by the thread running its test. Handlers registered by expectations run on callback server
+ * threads and only signal their completion to the pipeline, so pipelines of concurrently running tests do not interfere.
  */
 public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implements AsyncPipeline<P> {
     protected static final CountDownLatch NO_WAIT_LATCH = new CountDownLatch(0);
 
-    protected CallbackEndpoint endpoint;
-    protected Monitor monitor;
-    protected long waitTime;
-    protected Supplier<Map<String, Object>> context;
+    protected final CallbackEndpoint endpoint;
+    protected final Monitor monitor;
+    protected final long waitTime;
+    protected final Supplier<Map<String, Object>> context;
 
-    protected List<Runnable> stages = new ArrayList<>();
+    protected final List<Runnable> stages = new ArrayList<>();
 
     /*
      Used by {@link #thenWait} methods to synchronize with the completion of a recorded expectXXX(..) method to avoid message interleaving.
@@ -63,7 +70,7 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
      Every expectXXXX(..) method places a latch on the deque which is then popped by the subsequent {@link #thenWait} method.
      The {@link #thenWait} method waits on the latch, which is released after the expectXXXX(..) method completes.
      */
-    protected Deque<CountDownLatch> expectLatches = new ArrayDeque<>();
+    protected final Deque<CountDownLatch> expectLatches = new ArrayDeque<>();
 
     public AbstractAsyncPipeline(CallbackEndpoint endpoint, Monitor monitor, long waitTime, Supplier<Map<String, Object>> context) {
         this.endpoint = endpoint;
@@ -76,14 +83,7 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
         var latch = expectLatches.isEmpty() ? NO_WAIT_LATCH : expectLatches.pop();
         stages.add(() -> {
             try {
-                try {
-                    if (!latch.await(waitTime, SECONDS)) {
-                        throw new RuntimeException("Timeout waiting for " + description);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.interrupted();
-                    throw new RuntimeException("Interrupted while waiting for " + description, e);
-                }
+                awaitExpectation(latch, description);
                 await().atMost(waitTime, SECONDS).until(condition);
                 monitor.debug("Done waiting for " + description);
             } catch (ConditionTimeoutException e) {
@@ -96,6 +96,31 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
         return (P) this;
     }
 
+    public P thenAwait(String description, Supplier<? extends CompletionStage<?>> completion) {
+        var latch = expectLatches.isEmpty() ? NO_WAIT_LATCH : expectLatches.pop();
+        stages.add(() -> {
+            awaitExpectation(latch, description);
+            var future = completion.get().toCompletableFuture();
+            try {
+                future.get(waitTime, SECONDS);
+                monitor.debug("Done waiting for " + description);
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                throw new AssertionError("Timeout waiting for " + description);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof AssertionError assertionError) {
+                    throw assertionError;
+                }
+                throw new AssertionError("Failed waiting for " + description + ": " + e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.interrupted();
+                throw new RuntimeException("Interrupted while waiting for " + description, e);
+            }
+        });
+        //noinspection unchecked
+        return (P) this;
+    }
+
     public P then(Runnable runnable) {
         stages.add(runnable);
         //noinspection unchecked
@@ -120,12 +145,26 @@ public abstract class AbstractAsyncPipeline<P extends AsyncPipeline<P>> implemen
         return (P) this;
     }
 
-    protected void pause() {
+    private void awaitExpectation(CountDownLatch latch, String description) {
         try {
-            Thread.sleep(100);
+            if (!latch.await(waitTime, SECONDS)) {
+                throw new RuntimeException("Timeout waiting for " + description);
+            }
         } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            Thread.interrupted();
+            throw new RuntimeException("Interrupted while waiting for " + description, e);
         }
     }
 
+    /**
+     * Creates a poller for the convergence of remote state that stops after the timeout. If errors are ignored, failed probes are
+     * retried.
+     */
+    protected ConvergencePoller createPoller(Duration timeout, boolean ignoreErrors) {
+        return ConvergencePoller.Builder.newInstance()
+                .timeout(timeout)
+                .ignoreErrors(ignoreErrors)
+                .build();
+    }
+
 }
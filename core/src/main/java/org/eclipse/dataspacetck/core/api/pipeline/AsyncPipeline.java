@@ -15,6 +15,8 @@
 package org.eclipse.dataspacetck.core.api.pipeline;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * Constructs a set of asynchronous message steps with a system under test.
@@ -26,6 +28,11 @@ public interface AsyncPipeline<P extends AsyncPipeline<P>> {
      */
     P thenWait(String description, Callable<Boolean> condition);
 
+    /**
+     * Waits for the stage returned by the supplier to complete. The supplier is invoked when the step is active.
+     */
+    P thenAwait(String description, Supplier<? extends CompletionStage<?>> completion);
+
     /**
      * Executes a runnable when the step is active.
      */
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.pipeline;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Polls a probe, typically a request for the state of a remote system, until its result satisfies a condition or the timeout elapses.
+ * <p>
+ * The probe is invoked immediately. The delay before each further attempt grows exponentially from the initial delay up to the maximum
+ * delay and is randomly shortened by up to the jitter fraction, so concurrent pollers do not synchronize. The poller never sleeps past
+ * the deadline.
+ */
+public class ConvergencePoller {
+    private Duration timeout = Duration.ofSeconds(30);
+    private Duration initialDelay = Duration.ofMillis(10);
+    private Duration maxDelay = Duration.ofMillis(500);
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private boolean ignoreErrors;
+
+    /**
+     * The outcome of polling.
+     *
+     * @param converged true if the condition was satisfied
+     * @param value     the last value returned by the probe or null if it failed
+     * @param error     the last error thrown by the probe if errors are ignored
+     * @param attempts  the duration of each attempt
+     * @param elapsed   the time from the first attempt until polling stopped
+     */
+    public record Result<T>(boolean converged, @Nullable T value, @Nullable Throwable error, List<Duration> attempts, Duration elapsed) {
+
+        /**
+         * Returns a human-readable description of the attempts.
+         */
+        public String describe() {
+            var durations = attempts.stream().map(d -> d.toMillis() + "ms").collect(joining(", "));
+            var description = format("%s attempts in %sms (%s)", attempts.size(), elapsed.toMillis(), durations);
+            return error == null ? description : description + ", last error: " + error.getMessage();
+        }
+    }
+
+    /**
+     * Polls the probe until the condition is satisfied by its result or the timeout elapses. Unless errors are ignored, an error thrown
+     * by the probe is propagated.
+     */
+    public <T> Result<T> poll(Supplier<T> probe, Predicate<T> condition) {
+        var start = System.nanoTime();
+        var deadline = start + timeout.toNanos();
+        var attempts = new ArrayList<Duration>();
+        var delay = initialDelay;
+        while (true) {
+            var attemptStart = System.nanoTime();
+            T value = null;
+            Throwable error = null;
+            try {
+                value = probe.get();
+            } catch (RuntimeException | AssertionError e) {
+                if (!ignoreErrors) {
+                    throw e;
+                }
+                error = e;
+            }
+            var now = System.nanoTime();
+            attempts.add(Duration.ofNanos(now - attemptStart));
+            var converged = error == null && condition.test(value);
+            if (converged || now >= deadline) {
+                return new Result<>(converged, value, error, attempts, Duration.ofNanos(now - start));
+            }
+            sleep(Math.min(jittered(delay), deadline - now));
+            var next = delay.toNanos() * multiplier;
+            delay = next >= maxDelay.toNanos() ? maxDelay : Duration.ofNanos((long) next);
+        }
+    }
+
+    private long jittered(Duration delay) {
+        var nanos = delay.toNanos();
+        return nanos - (long) (nanos * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while polling", e);
+        }
+    }
+
+    private ConvergencePoller() {
+    }
+
+    public static class Builder {
+        private final ConvergencePoller poller;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the time after which polling stops.
+         */
+        public Builder timeout(Duration timeout) {
+            poller.timeout = timeout;
+            return this;
+        }
+
+        public Builder initialDelay(Duration initialDelay) {
+            poller.initialDelay = initialDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            poller.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder multiplier(double multiplier) {
+            poller.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the fraction, between 0 and 1, by which each delay may be randomly shortened.
+         */
+        public Builder jitter(double jitter) {
+            poller.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Treats errors thrown by the probe as results that do not satisfy the condition.
+         */
+        public Builder ignoreErrors(boolean ignoreErrors) {
+            poller.ignoreErrors = ignoreErrors;
+            return this;
+        }
+
+        public ConvergencePoller build() {
+            if (poller.multiplier < 1) {
+                throw new IllegalArgumentException("Multiplier must be at least 1: " + poller.multiplier);
+            }
+            if (poller.jitter < 0 || poller.jitter > 1) {
+                throw new IllegalArgumentException("Jitter must be between 0 and 1: " + poller.jitter);
+            }
+            return poller;
+        }
+
+        private Builder() {
+            poller = new ConvergencePoller();
+        }
+    }
+}
@@ -22,4 +22,14 @@ public interface SystemsConstants {
     String TCK_CALLBACK_ADDRESS = TCK_PREFIX + ".callback.address";
     String TCK_DEFAULT_CALLBACK_ADDRESS = "http://localhost:8083";
     String TCK_LAUNCHER = TCK_PREFIX + ".launcher";
+
+    /**
+     * The callback server execution model: {@code virtual}, {@code pool}, or {@code single}.
+     */
+    String TCK_CALLBACK_EXECUTOR = TCK_PREFIX + ".callback.executor";
+    String TCK_DEFAULT_CALLBACK_EXECUTOR = "single";
+    String TCK_CALLBACK_POOL_SIZE = TCK_PREFIX + ".callback.pool.size";
+    String TCK_DEFAULT_CALLBACK_POOL_SIZE = "10";
+    String TCK_CALLBACK_BACKLOG = TCK_PREFIX + ".callback.backlog";
+    String TCK_DEFAULT_CALLBACK_BACKLOG = "0";
 }
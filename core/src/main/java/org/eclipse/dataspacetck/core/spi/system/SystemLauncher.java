@@ -33,6 +33,12 @@ public interface SystemLauncher {
     default void close() {
     }
 
+    /**
+     * Signals that the test scope with the given id has completed and services created for it may be freed.
+     */
+    default void scopeClosed(String scopeId) {
+    }
+
     /**
      * Returns true if the launcher can provide a service of the given type.
      */
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An HTTP server receiving callback messages. Each endpoint created by the server owns a namespace, which is the first segment of
+ * its callback paths, so endpoints receive only the messages sent to their own address.
+ */
+public class CallbackServer {
+    private static final String ENDPOINT_NAMESPACE_PREFIX = "scope";
+
+    private final String address;
+    private final HttpServer server;
+    private final MeteredExecutor executor;
+    private final DispatchingHandler dispatchingHandler = new DispatchingHandler();
+    private final AtomicLong endpointSequence = new AtomicLong();
+
+    /**
+     * Creates the server.
+     *
+     * @param address  the base callback address; the server listens on its host and port
+     * @param executor the executor handling requests
+     * @param backlog  the maximum number of queued incoming connections
+     */
+    public CallbackServer(String address, ExecutorService executor, int backlog) {
+        this.address = address;
+        this.executor = new MeteredExecutor(executor);
+        var uri = URI.create(address);
+        try {
+            server = HttpServer.create(new InetSocketAddress(uri.getHost(), uri.getPort()), backlog);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        server.createContext("/", dispatchingHandler);
+        server.setExecutor(this.executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Creates an endpoint in a new namespace. The endpoint stops receiving messages when it is closed.
+     */
+    public DefaultCallbackEndpoint createEndpoint() {
+        var endpoint = DefaultCallbackEndpoint.Builder.newInstance()
+                .address(address)
+                .namespace(ENDPOINT_NAMESPACE_PREFIX + endpointSequence.incrementAndGet())
+                .listener(dispatchingHandler::deregisterEndpoint)
+                .build();
+        dispatchingHandler.registerEndpoint(endpoint);
+        return endpoint;
+    }
+
+    /**
+     * Returns a human-readable summary of the request executor metrics.
+     */
+    public String formatMetrics() {
+        return executor.formatMetrics();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Dispatches requests to the endpoint owning the namespace in the first path segment.
+     */
+    private static class DispatchingHandler implements HttpHandler {
+        private final Map<String, DefaultCallbackEndpoint> endpoints = new ConcurrentHashMap<>();
+
+        void registerEndpoint(DefaultCallbackEndpoint endpoint) {
+            endpoints.put(endpoint.getNamespace(), endpoint);
+        }
+
+        void deregisterEndpoint(DefaultCallbackEndpoint endpoint) {
+            endpoints.remove(endpoint.getNamespace(), endpoint);
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            var path = exchange.getRequestURI().getPath();
+            var start = path.startsWith("/") ? 1 : 0;
+            var end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            var endpoint = endpoints.get(path.substring(start, end));
+            var handler = endpoint == null ? null : endpoint.resolveHandler(path.substring(end));
+            if (handler == null) {
+                exchange.sendResponseHeaders(404, 0);
+                return;
+            }
+            var response = handler.apply(exchange.getRequestBody());
+            if (response == null) {
+                exchange.sendResponseHeaders(200, 0);
+            } else {
+                var bytes = response.getBytes();
+                exchange.sendResponseHeaders(200, bytes.length);
+                var responseBody = exchange.getResponseBody();
+                responseBody.write(bytes);
+                responseBody.close();
+            }
+        }
+    }
+}
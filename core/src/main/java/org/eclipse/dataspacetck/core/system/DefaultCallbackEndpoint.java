@@ -16,20 +16,16 @@
 package org.eclipse.dataspacetck.core.system;
 
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.regex.Pattern.compile;
 
 /**
  * Implements a callback endpoint.
@@ -44,37 +40,55 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
     }
 
     private String address;
+    private String namespace;
     private List<LifecycleListener> listeners = new ArrayList<>();
-    private Map<String, Function<InputStream, String>> handlers = new HashMap<>();
+    private PathRouter<Function<InputStream, String>> handlers = new PathRouter<>();
 
 
     @Override
     public String getAddress() {
-        return address;
+        return namespace == null ? address : address + "/" + namespace;
+    }
+
+    /**
+     * Returns the path segment that prefixes all callback paths of this endpoint or null if the endpoint is not namespaced.
+     */
+    @Nullable
+    public String getNamespace() {
+        return namespace;
     }
 
     public boolean handlesPath(String path) {
-        return lookupHandler(stripTrailingSlash(path)).isPresent();
+        return handlers.resolve(path) != null;
+    }
+
+    /**
+     * Returns the handler registered for a pattern matching the path or null if there is none. Callers that dispatch messages
+     * should use this method instead of {@link #handlesPath(String)} followed by {@link #apply(String, InputStream)} so the path
+     * is only matched once.
+     */
+    @Nullable
+    public Function<InputStream, String> resolveHandler(String path) {
+        return handlers.resolve(path);
     }
 
     @Override
     public String apply(String path, InputStream message) {
-        //noinspection OptionalGetWithoutIsPresent
-        return lookupHandler(stripTrailingSlash(path)).get().apply(message);
+        var handler = handlers.resolve(path);
+        if (handler == null) {
+            throw new IllegalStateException("No handler registered for path: " + path);
+        }
+        return handler.apply(message);
     }
 
     @Override
     public void registerHandler(String path, Function<InputStream, String> handler) {
-        if (!path.startsWith("/")) {
-            path = "/" + path;
-        }
-        path = stripTrailingSlash(path);
-        handlers.put(path, handler);
+        handlers.register(path, handler);
     }
 
     @Override
     public void deregisterHandler(String path) {
-        handlers.remove(path);
+        handlers.deregister(path);
     }
 
     private DefaultCallbackEndpoint() {
@@ -85,11 +99,6 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
         listeners.forEach(l -> l.onClose(this));
     }
 
-    @NotNull
-    private String stripTrailingSlash(String path) {
-        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
-    }
-
     public static class Builder {
         private DefaultCallbackEndpoint endpoint;
 
@@ -102,6 +111,15 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
             return this;
         }
 
+        /**
+         * Sets a path segment unique to this endpoint that is appended to the address. Paths passed to the endpoint's
+         * handlers are relative to the namespace.
+         */
+        public Builder namespace(String namespace) {
+            endpoint.namespace = namespace;
+            return this;
+        }
+
         public Builder listener(LifecycleListener listener) {
             endpoint.listeners.add(listener);
             return this;
@@ -109,6 +127,9 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
 
         public DefaultCallbackEndpoint build() {
             requireNonNull(endpoint.address);
+            if (endpoint.address.endsWith("/")) {
+                endpoint.address = endpoint.address.substring(0, endpoint.address.length() - 1);
+            }
             return endpoint;
         }
 
@@ -116,15 +137,4 @@ public class DefaultCallbackEndpoint implements CallbackEndpoint, BiFunction<Str
             endpoint = new DefaultCallbackEndpoint();
         }
     }
-
-    /**
-     * Matches the path based on the regular expression.
-     */
-    private Optional<Function<InputStream, String>> lookupHandler(String expression) {
-        return handlers.entrySet()
-                .stream()
-                .filter(entry -> compile(entry.getKey()).matcher(expression).matches())
-                .map(Map.Entry::getValue)
-                .findFirst();
-    }
 }
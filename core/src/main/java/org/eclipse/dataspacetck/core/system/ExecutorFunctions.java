@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor creation functions.
+ */
+public class ExecutorFunctions {
+    public static final String VIRTUAL_MODE = "virtual";
+    public static final String POOL_MODE = "pool";
+    public static final String SINGLE_MODE = "single";
+
+    /**
+     * Creates an executor for the given mode:
+     * <ul>
+     *     <li>{@code virtual}: one virtual thread per task. Falls back to an unbounded cached pool on runtimes without virtual threads.</li>
+     *     <li>{@code pool}: a fixed pool of platform threads of the given size.</li>
+     *     <li>{@code single}: a single platform thread.</li>
+     * </ul>
+     */
+    public static ExecutorService createExecutor(String mode, int poolSize) {
+        return switch (mode.toLowerCase()) {
+            case VIRTUAL_MODE -> newVirtualThreadExecutor();
+            case POOL_MODE -> Executors.newFixedThreadPool(poolSize);
+            case SINGLE_MODE -> Executors.newSingleThreadExecutor();
+            default -> throw new IllegalArgumentException("Unsupported executor mode: " + mode);
+        };
+    }
+
+    /**
+     * Returns true if the runtime supports virtual threads.
+     */
+    public static boolean virtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per task. The executor is obtained reflectively since the TCK is compiled
+     * for a release without virtual threads; if the runtime does not support them, an unbounded cached thread pool is returned.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return Executors.newCachedThreadPool();
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create virtual thread executor", e);
+        }
+    }
+
+    private ExecutorFunctions() {
+    }
+}
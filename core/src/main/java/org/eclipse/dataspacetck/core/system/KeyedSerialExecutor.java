@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * An executor that runs tasks with the same key one at a time in submission order, while tasks with different keys run in parallel
+ * on the delegate. Tasks without a key are passed to the delegate directly.
+ * <p>
+ * The executor records queue depth, the time tasks wait before they start and the time they take to execute.
+ */
+public class KeyedSerialExecutor implements Executor {
+    private final ExecutorService delegate;
+    private final Map<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalExecutionNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    public KeyedSerialExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    /**
+     * Executes the task after all previously submitted tasks with the same key have completed. If the delegate rejects the task,
+     * the tasks queued for the key are discarded and the {@link RejectedExecutionException} is rethrown.
+     */
+    public void execute(Object key, Runnable task) {
+        var depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        var timedTask = new TimedTask(task, System.nanoTime());
+        var start = new boolean[1];
+        var queue = queues.compute(key, (k, existing) -> {
+            var serialQueue = existing == null ? new SerialQueue(k) : existing;
+            serialQueue.tasks.add(timedTask);
+            if (!serialQueue.running) {
+                serialQueue.running = true;
+                start[0] = true;
+            }
+            return serialQueue;
+        });
+        if (start[0]) {
+            try {
+                delegate.execute(queue);
+            } catch (RejectedExecutionException e) {
+                // the queue will never run, drop it so that later tasks of the key start a new one instead of stalling behind it
+                queues.computeIfPresent(key, (k, existing) -> {
+                    if (existing != queue) {
+                        return existing;
+                    }
+                    queueDepth.addAndGet(-existing.tasks.size());
+                    return null;
+                });
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks submitted but not yet started.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of keys with tasks queued or executing.
+     */
+    public int getActiveKeys() {
+        return queues.size();
+    }
+
+    /**
+     * Returns a human-readable summary of the recorded metrics.
+     */
+    public String formatMetrics() {
+        var count = taskCount.get();
+        var averageWait = count == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.get() / count);
+        var averageExecution = count == 0 ? Duration.ZERO : Duration.ofNanos(totalExecutionNanos.get() / count);
+        return format("tasks: %s, queue depth: %s (max %s), active keys: %s, wait time: %sms avg (max %sms), execution time: %sms avg (max %sms)",
+                count, getQueueDepth(), maxQueueDepth.get(), getActiveKeys(),
+                averageWait.toMillis(), Duration.ofNanos(maxWaitNanos.get()).toMillis(),
+                averageExecution.toMillis(), Duration.ofNanos(maxExecutionNanos.get()).toMillis());
+    }
+
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+
+    private record TimedTask(Runnable task, long submitted) {
+    }
+
+    /**
+     * Runs the tasks of a key until none are left, at which point the queue is removed.
+     */
+    private class SerialQueue implements Runnable {
+        private final Object key;
+        private final Queue<TimedTask> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        SerialQueue(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            TimedTask next;
+            while ((next = next()) != null) {
+                queueDepth.decrementAndGet();
+                var started = System.nanoTime();
+                record(totalWaitNanos, maxWaitNanos, started - next.submitted());
+                try {
+                    next.task().run();
+                } catch (RuntimeException | AssertionError e) {
+                    // report the failure as the delegate would and continue with the next task of the key
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                } finally {
+                    taskCount.incrementAndGet();
+                    record(totalExecutionNanos, maxExecutionNanos, System.nanoTime() - started);
+                }
+            }
+        }
+
+        private TimedTask next() {
+            var next = new TimedTask[1];
+            // polling and removing the drained queue is atomic with respect to execute(), which appends under the same key
+            queues.computeIfPresent(key, (k, queue) -> {
+                next[0] = queue.tasks.poll();
+                return next[0] == null ? null : queue;
+            });
+            return next[0];
+        }
+
+        private void record(AtomicLong total, AtomicLong max, long nanos) {
+            total.addAndGet(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+    }
+}
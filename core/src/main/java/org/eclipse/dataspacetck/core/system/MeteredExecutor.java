@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * An executor that records queue depth, the time tasks wait before they start executing and the time they take to execute.
+ */
+public class MeteredExecutor implements Executor {
+    private final ExecutorService delegate;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalExecutionNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    public MeteredExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        var submitted = System.nanoTime();
+        var depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        delegate.execute(() -> {
+            queueDepth.decrementAndGet();
+            var waited = System.nanoTime() - submitted;
+            taskCount.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            var started = System.nanoTime();
+            try {
+                command.run();
+            } finally {
+                var executed = System.nanoTime() - started;
+                totalExecutionNanos.addAndGet(executed);
+                maxExecutionNanos.accumulateAndGet(executed, Math::max);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of tasks submitted but not yet started.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the highest observed number of tasks waiting to start.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks that have started executing.
+     */
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * Returns the average time tasks waited before they started executing.
+     */
+    public Duration getAverageWaitTime() {
+        var count = taskCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.get() / count);
+    }
+
+    /**
+     * Returns the longest time a task waited before it started executing.
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    /**
+     * Returns the average time tasks took to execute.
+     */
+    public Duration getAverageExecutionTime() {
+        var count = taskCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalExecutionNanos.get() / count);
+    }
+
+    /**
+     * Returns the longest time a task took to execute.
+     */
+    public Duration getMaxExecutionTime() {
+        return Duration.ofNanos(maxExecutionNanos.get());
+    }
+
+    /**
+     * Returns a human-readable summary of the recorded metrics.
+     */
+    public String formatMetrics() {
+        return format("tasks: %s, queue depth: %s (max %s), wait time: %sms avg (max %sms), execution time: %sms avg (max %sms)",
+                getTaskCount(), getQueueDepth(), getMaxQueueDepth(), getAverageWaitTime().toMillis(), getMaxWaitTime().toMillis(),
+                getAverageExecutionTime().toMillis(), getMaxExecutionTime().toMillis());
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Routes request paths to registered values using a segment trie.
+ * <p>
+ * Path patterns are split into segments when they are registered. Literal segments are matched by a map lookup, the wildcard
+ * segment {@code [^/]+} matches any non-empty segment, and any other segment is treated as a regular expression that is compiled
+ * once at registration time. A path is resolved in a single pass over its segments; literal matches take precedence over patterns.
+ * <p>
+ * Registration and resolution may happen concurrently.
+ */
+class PathRouter<T> {
+    static final String WILDCARD = "[^/]+";
+
+    private static final Pattern REGEX_CHARACTERS = Pattern.compile("[\\\\.\\[\\]{}()*+?^$|]");
+
+    private final Node<T> root = new Node<>(null);
+
+    /**
+     * Registers the value for the path pattern, replacing any previously registered value.
+     */
+    void register(String pattern, T value) {
+        var node = root;
+        for (var segment : segments(pattern)) {
+            node = node.child(segment);
+        }
+        node.value = value;
+    }
+
+    /**
+     * Removes the value registered for the path pattern. Returns true if a value was removed.
+     */
+    boolean deregister(String pattern) {
+        var node = root;
+        for (var segment : segments(pattern)) {
+            node = node.existingChild(segment);
+            if (node == null) {
+                return false;
+            }
+        }
+        var removed = node.value != null;
+        node.value = null;
+        return removed;
+    }
+
+    /**
+     * Returns the value registered for a pattern matching the path or null if none matches.
+     */
+    @Nullable
+    T resolve(String path) {
+        return resolve(root, path, start(path));
+    }
+
+    @Nullable
+    private T resolve(Node<T> node, String path, int offset) {
+        var end = path.length();
+        if (offset >= end) {
+            return node.value;
+        }
+        var next = path.indexOf('/', offset);
+        if (next < 0) {
+            next = end;
+        }
+        // a trailing slash moves the offset to the end of the path, which resolves to the current node
+        var following = next + 1;
+        var segment = path.substring(offset, next);
+        var literal = node.literals.get(segment);
+        if (literal != null) {
+            var value = resolve(literal, path, following);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (node.wildcard != null && !segment.isEmpty()) {
+            var value = resolve(node.wildcard, path, following);
+            if (value != null) {
+                return value;
+            }
+        }
+        for (var child : node.patterns.values()) {
+            if (child.pattern.matcher(segment).matches()) {
+                var value = resolve(child, path, following);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int start(String path) {
+        return path.startsWith("/") ? 1 : 0;
+    }
+
+    /**
+     * Splits the pattern into segments. Slashes inside character classes such as {@code [^/]} do not separate segments.
+     */
+    private static List<String> segments(String pattern) {
+        var segments = new ArrayList<String>();
+        var current = new StringBuilder();
+        var inClass = false;
+        for (var i = start(pattern); i < pattern.length(); i++) {
+            var c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                current.append(c).append(pattern.charAt(++i));
+                continue;
+            }
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                segments.add(current.toString());
+                current.setLength(0);
+                continue;
+            }
+            current.append(c);
+        }
+        if (!current.isEmpty()) {
+            segments.add(current.toString());
+        }
+        return segments;
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> literals = new ConcurrentHashMap<>();
+        private final Map<String, Node<T>> patterns = new ConcurrentHashMap<>();
+        private final Pattern pattern;
+        private volatile Node<T> wildcard;
+        private volatile T value;
+
+        Node(@Nullable Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        Node<T> child(String segment) {
+            if (WILDCARD.equals(segment)) {
+                synchronized (this) {
+                    if (wildcard == null) {
+                        wildcard = new Node<>(null);
+                    }
+                    return wildcard;
+                }
+            } else if (REGEX_CHARACTERS.matcher(segment).find()) {
+                return patterns.computeIfAbsent(segment, s -> new Node<>(Pattern.compile(s)));
+            }
+            return literals.computeIfAbsent(segment, s -> new Node<>(null));
+        }
+
+        @Nullable
+        Node<T> existingChild(String segment) {
+            if (WILDCARD.equals(segment)) {
+                return wildcard;
+            } else if (REGEX_CHARACTERS.matcher(segment).find()) {
+                return patterns.get(segment);
+            }
+            return literals.get(segment);
+        }
+    }
+}
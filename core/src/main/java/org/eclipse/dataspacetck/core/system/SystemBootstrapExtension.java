@@ -15,10 +15,8 @@
 
 package org.eclipse.dataspacetck.core.system;
 
-import com.sun.net.httpserver.HttpExchange;
-import com.sun.net.httpserver.HttpHandler;
-import com.sun.net.httpserver.HttpServer;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.SystemLauncher;
@@ -32,83 +30,110 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.platform.commons.JUnitException;
 
-import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.net.InetSocketAddress;
-import java.net.URI;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_BACKLOG;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_EXECUTOR;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_POOL_SIZE;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_BACKLOG;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_EXECUTOR;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_POOL_SIZE;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
 import static org.eclipse.dataspacetck.core.system.ConfigFunctions.propertyOrEnv;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.ANSI_PROPERTY;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.DEBUG_PROPERTY;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.VIRTUAL_MODE;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.createExecutor;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.virtualThreadsSupported;
 import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.GLOBAL;
 
+/**
+ * Starts the system launcher and the callback server once for all verification tests and injects services into test instances.
+ * <p>
+ * Tests may run concurrently. Services are created per test scope, and each scope receives its own callback endpoint, so callbacks
+ * are only delivered to the test that expects them.
+ */
 public class SystemBootstrapExtension implements BeforeAllCallback, BeforeEachCallback, ParameterResolver, ExtensionContext.Store.CloseableResource {
 
     private static final ExtensionContext.Namespace CALLBACK_NAMESPACE = org.junit.jupiter.api.extension.ExtensionContext.Namespace.create(new Object());
 
-    private static boolean started;
+    private static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+
+    private static final Object LOCK = new Object();
 
-    private String callbackHost;
-    private int callbackPort;
-    private static SystemLauncher launcher;
-    private static DispatchingHandler dispatchingHandler;
-    private static HttpServer server;
-    private ExecutorService executorService;
+    private static volatile boolean started;
+
+    private static volatile SystemLauncher launcher;
+    private static volatile CallbackServer callbackServer;
+    private Monitor monitor;
 
     @Override
     public void beforeAll(ExtensionContext context) {
         if (started) {
             return;
         }
-        started = true;
+        // test classes running concurrently must not start the system twice or use it before it has started
+        synchronized (LOCK) {
+            if (!started) {
+                start(context);
+                started = true;
+            }
+        }
+    }
+
+    private void start(ExtensionContext context) {
         context.getRoot().getStore(GLOBAL).put(SystemBootstrapExtension.class.getName() + "-initialized", this);
 
         launcher = initializeLauncher(context);
 
         var ansi = parseBoolean(context.getConfigurationParameter(ANSI_PROPERTY).orElse(propertyOrEnv(ANSI_PROPERTY, "true")));
         var debug = parseBoolean(context.getConfigurationParameter(DEBUG_PROPERTY).orElse(propertyOrEnv(DEBUG_PROPERTY, "false")));
-        var callbackAddress = URI.create(context.getConfigurationParameter(TCK_CALLBACK_ADDRESS).orElse(propertyOrEnv(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS)));
-
-        this.callbackHost = callbackAddress.getHost();
-        this.callbackPort = callbackAddress.getPort();
+        var callbackAddress = getConfiguration(context, TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS);
 
+        monitor = new ConsoleMonitor(debug, ansi);
         var configuration = SystemConfiguration.Builder.newInstance()
                 .propertyDelegate(k -> context.getConfigurationParameter(k).orElse(propertyOrEnv(k, null)))
-                .monitor(new ConsoleMonitor(debug, ansi))
+                .monitor(monitor)
                 .build();
 
         launcher.start(configuration);
 
-        dispatchingHandler = new DispatchingHandler();
-        executorService = Executors.newFixedThreadPool(1);
-        server = initializeCallbackServer(dispatchingHandler, executorService);
-        server.start();
+        var parallel = parseBoolean(getConfiguration(context, PARALLEL_ENABLED, "false"));
+        // a single thread would serialize the callbacks of concurrently running tests
+        var executorMode = getConfiguration(context, TCK_CALLBACK_EXECUTOR, parallel ? VIRTUAL_MODE : TCK_DEFAULT_CALLBACK_EXECUTOR);
+        var poolSize = parseInt(getConfiguration(context, TCK_CALLBACK_POOL_SIZE, TCK_DEFAULT_CALLBACK_POOL_SIZE));
+        var backlog = parseInt(getConfiguration(context, TCK_CALLBACK_BACKLOG, TCK_DEFAULT_CALLBACK_BACKLOG));
+        if (VIRTUAL_MODE.equalsIgnoreCase(executorMode) && !virtualThreadsSupported()) {
+            monitor.message("Virtual threads are not supported by this runtime, using a cached thread pool for callbacks");
+        }
+
+        callbackServer = new CallbackServer(callbackAddress, createExecutor(executorMode, poolSize), backlog);
+        callbackServer.start();
     }
 
     @Override
     public void beforeEach(ExtensionContext context) {
+        trackScope(context);
         new InstanceInjector((service, configuration) ->
                 launcher.getService(service, configuration, (t, c) -> resolveInHierarchy(t, c, context)), context).inject(context.getTestInstance().orElseThrow());
     }
 
     @Override
     public void close() {
-        if (launcher != null) {
-            launcher.close();
-        }
-        if (server != null) {
-            server.stop(0);
-        }
-        if (executorService != null) {
-            executorService.shutdown();
+        // reset under the lock so that a later test run in the same JVM starts the system again
+        synchronized (LOCK) {
+            if (launcher != null) {
+                launcher.close();
+            }
+            if (callbackServer != null) {
+                monitor.debug("Callback executor metrics: " + callbackServer.formatMetrics());
+                callbackServer.stop();
+            }
+            started = false;
         }
     }
 
@@ -125,6 +150,7 @@ public class SystemBootstrapExtension implements BeforeAllCallback, BeforeEachCa
         if (service != null) {
             return service;
         }
+        trackScope(context);
         var tags = context.getTags();
         var id = context.getUniqueId();
         var configuration = ServiceConfiguration.Builder.newInstance()
@@ -156,23 +182,18 @@ public class SystemBootstrapExtension implements BeforeAllCallback, BeforeEachCa
     @Nullable
     private Object resolve(Class<?> type, ExtensionContext context) {
         if (type.equals(CallbackEndpoint.class)) {
-            var endpoint = context.getStore(CALLBACK_NAMESPACE).getOrComputeIfAbsent("callback", k -> attachCallbackEndpoint(dispatchingHandler, context));
-            // var endpoint = attachCallbackEndpoint(dispatchingHandler, context);
-            context.getStore(CALLBACK_NAMESPACE).put("callback", endpoint);
+            var endpoint = context.getStore(CALLBACK_NAMESPACE).getOrComputeIfAbsent("callback", k -> callbackServer.createEndpoint());
             return type.cast(endpoint);
         }
         return null;
     }
 
-    private CallbackEndpoint attachCallbackEndpoint(DispatchingHandler dispatchingHandler, ExtensionContext context) {
-        var endpointBuilder = DefaultCallbackEndpoint.Builder.newInstance();
-        endpointBuilder.address(context.getConfigurationParameter(TCK_CALLBACK_ADDRESS)
-                .orElse(propertyOrEnv(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS)));
-        endpointBuilder.listener(dispatchingHandler::deregisterEndpoint);
-
-        var endpoint = endpointBuilder.build();
-        dispatchingHandler.registerEndpoint(endpoint);
-        return endpoint;
+    /**
+     * Notifies the launcher when the scope of the context closes so that services created for it can be freed.
+     */
+    private void trackScope(ExtensionContext context) {
+        var scopeId = context.getUniqueId();
+        context.getStore(CALLBACK_NAMESPACE).getOrComputeIfAbsent("scope-" + scopeId, k -> (ExtensionContext.Store.CloseableResource) () -> launcher.scopeClosed(scopeId));
     }
 
     private SystemLauncher initializeLauncher(ExtensionContext context) {
@@ -190,48 +211,8 @@ public class SystemBootstrapExtension implements BeforeAllCallback, BeforeEachCa
         }
     }
 
-    private HttpServer initializeCallbackServer(HttpHandler rootHandler, ExecutorService executorService) {
-        try {
-            server = HttpServer.create(new InetSocketAddress(callbackHost, callbackPort), 0);
-            server.createContext("/", rootHandler);
-            server.setExecutor(executorService);
-            return server;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static class DispatchingHandler implements HttpHandler {
-        private Queue<DefaultCallbackEndpoint> endpoints = new ConcurrentLinkedQueue<>();
-
-        void registerEndpoint(DefaultCallbackEndpoint endpoint) {
-            endpoints.add(endpoint);
-        }
-
-        void deregisterEndpoint(DefaultCallbackEndpoint endpoint) {
-            endpoints.remove(endpoint);
-        }
-
-        @Override
-        public void handle(HttpExchange exchange) throws IOException {
-            var path = exchange.getRequestURI().getPath();
-            for (var endpoint : endpoints) {
-                if (endpoint.handlesPath(path)) {
-                    var response = endpoint.apply(path, exchange.getRequestBody());
-                    if (response == null) {
-                        exchange.sendResponseHeaders(200, 0);
-                    } else {
-                        var bytes = response.getBytes();
-                        exchange.sendResponseHeaders(200, bytes.length);
-                        var responseBody = exchange.getResponseBody();
-                        responseBody.write(bytes);
-                        responseBody.close();
-                    }
-                    return;
-                }
-            }
-            exchange.sendResponseHeaders(404, 0);
-        }
+    private String getConfiguration(ExtensionContext context, String key, String defaultValue) {
+        return context.getConfigurationParameter(key).orElse(propertyOrEnv(key, defaultValue));
     }
 
     private static class NoOpSystemLauncher implements SystemLauncher {
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import jakarta.json.JsonStructure;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingDocumentLoaderTest {
+    private static final URI LOCAL = URI.create("https://example.com/local.jsonld");
+    private static final URI REMOTE = URI.create("https://example.com/remote.jsonld");
+
+    @Test
+    void verifyPreloadedWithoutRemote() throws JsonLdError {
+        var document = JsonDocument.of(JsonStructure.EMPTY_JSON_OBJECT);
+        var loader = new CachingDocumentLoader(Map.of(LOCAL, document), null, 10);
+
+        assertThat(loader.loadDocument(LOCAL, new DocumentLoaderOptions())).isSameAs(document);
+        assertThatThrownBy(() -> loader.loadDocument(REMOTE, new DocumentLoaderOptions())).isInstanceOf(JsonLdError.class);
+    }
+
+    @Test
+    void verifyRemoteDisabledByDefault() {
+        var loader = CachingDocumentLoader.create();
+
+        assertThatThrownBy(() -> loader.loadDocument(REMOTE, new DocumentLoaderOptions())).isInstanceOf(JsonLdError.class);
+    }
+
+    @Test
+    void verifyRemoteCached() throws JsonLdError {
+        var loads = new AtomicInteger();
+        var loader = new CachingDocumentLoader(Map.of(), (url, options) -> {
+            loads.incrementAndGet();
+            return JsonDocument.of(JsonStructure.EMPTY_JSON_OBJECT);
+        }, 1);
+
+        var document = loader.loadDocument(REMOTE, new DocumentLoaderOptions());
+        assertThat(loader.loadDocument(REMOTE, new DocumentLoaderOptions())).isSameAs(document);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // exceeding the cache size evicts the least recently used document
+        loader.loadDocument(LOCAL, new DocumentLoaderOptions());
+        loader.loadDocument(REMOTE, new DocumentLoaderOptions());
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
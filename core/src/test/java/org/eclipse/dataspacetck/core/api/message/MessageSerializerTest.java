@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.toSerializedForm;
+
+class MessageSerializerTest {
+    private static final String NS = "https://example.com/ns/";
+
+    @Test
+    void verifyCompactedMessageNotCopied() {
+        var message = Map.of("@type", NS + "Message", NS + "ids", List.of("1", "2"), NS + "nested", Map.of("@id", "123"));
+
+        assertThat(toSerializedForm(message)).isSameAs(message);
+    }
+
+    @Test
+    void verifyMessageWithContextCompacted() {
+        var message = Map.of("@context", Map.of("ns", NS), "@type", "ns:Message", "ns:ids", List.of("1"));
+
+        var serialized = serialize(message);
+
+        assertThat(serialized).contains(NS + "Message");
+        assertThat(serialized).doesNotContain("@context");
+
+        var stream = new ByteArrayOutputStream();
+        serialize(message, stream);
+        assertThat(stream.toString(UTF_8)).isEqualTo(serialized);
+    }
+
+    @Test
+    void verifyConcurrentExpansionWithSharedOptions() throws Exception {
+        var context = Map.<String, Object>of("ns", NS);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = IntStream.range(0, 200)
+                    .mapToObj(i -> (Callable<Map<String, Object>>) () ->
+                            processJsonLd(Map.of("@type", "ns:Message", "ns:id", Map.of("@id", "id" + i)), context))
+                    .toList();
+            var results = executor.invokeAll(tasks);
+            for (var i = 0; i < results.size(); i++) {
+                var result = results.get(i);
+                assertThat(result.get().get("@type")).isEqualTo(List.of(NS + "Message"));
+                assertThat(result.get().get(NS + "id")).isEqualTo(List.of(Map.of("@id", "id" + i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyExpansionWithMoreContextsThanCached() {
+        var shared = Map.<String, Object>of("ns", NS);
+        for (var i = 0; i < 100; i++) {
+            var context = Map.<String, Object>of("ns" + i, NS);
+            assertThat(processJsonLd(Map.of("@type", "ns" + i + ":Message"), context).get("@type")).isEqualTo(List.of(NS + "Message"));
+            assertThat(processJsonLd(Map.of("@type", "ns:Message"), shared).get("@type")).isEqualTo(List.of(NS + "Message"));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.api.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConvergencePollerTest {
+
+    @Test
+    void verifyConverges() {
+        var counter = new AtomicInteger();
+        var poller = ConvergencePoller.Builder.newInstance().initialDelay(Duration.ofMillis(1)).build();
+
+        var result = poller.poll(counter::incrementAndGet, value -> value == 3);
+
+        assertThat(result.converged()).isTrue();
+        assertThat(result.value()).isEqualTo(3);
+        assertThat(result.attempts()).hasSize(3);
+    }
+
+    @Test
+    void verifyTimeout() {
+        var poller = ConvergencePoller.Builder.newInstance()
+                .timeout(Duration.ofMillis(50))
+                .initialDelay(Duration.ofMillis(5))
+                .build();
+
+        var result = poller.poll(() -> "REQUESTED", "AGREED"::equals);
+
+        assertThat(result.converged()).isFalse();
+        assertThat(result.value()).isEqualTo("REQUESTED");
+        assertThat(result.elapsed().toMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(result.describe()).startsWith(result.attempts().size() + " attempts");
+    }
+
+    @Test
+    void verifyErrors() {
+        var counter = new AtomicInteger();
+        Supplier<Integer> probe = () -> {
+            if (counter.incrementAndGet() < 2) {
+                throw new IllegalStateException("Not available");
+            }
+            return counter.get();
+        };
+
+        assertThatThrownBy(() -> ConvergencePoller.Builder.newInstance().build().poll(probe, value -> true))
+                .isInstanceOf(IllegalStateException.class);
+
+        counter.set(0);
+        var result = ConvergencePoller.Builder.newInstance()
+                .initialDelay(Duration.ofMillis(1))
+                .ignoreErrors(true)
+                .build()
+                .poll(probe, value -> true);
+
+        assertThat(result.converged()).isTrue();
+        assertThat(result.attempts()).hasSize(2);
+    }
+}
@@ -54,6 +54,13 @@ class DefaultCallbackEndpointTest {
         assertThat(endpoint.apply("/foo/123/bar/", new ByteArrayInputStream(new byte[0]))).isEqualTo("return");
     }
 
+    @Test
+    void verifyNamespacedAddress() {
+        var namespaced = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost/").namespace("scope1").build();
+        assertThat(namespaced.getAddress()).isEqualTo("http://localhost/scope1");
+        assertThat(endpoint.getAddress()).isEqualTo("http://localhost");
+    }
+
     @BeforeEach
     void setUp() {
         endpoint = DefaultCallbackEndpoint.Builder.newInstance().address("http://localhost").build();
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyedSerialExecutorTest {
+    private final KeyedSerialExecutor executor = new KeyedSerialExecutor(Executors.newFixedThreadPool(4));
+
+    @Test
+    void verifyTasksWithSameKeyRunInOrder() throws InterruptedException {
+        var executed = new CopyOnWriteArrayList<Integer>();
+        var latch = new CountDownLatch(100);
+
+        range(0, 100).forEach(i -> executor.execute("key", () -> {
+            executed.add(i);
+            latch.countDown();
+        }));
+
+        assertThat(latch.await(10, SECONDS)).isTrue();
+        assertThat(executed).isEqualTo(range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void verifyTasksWithDifferentKeysRunInParallel() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var completed = new CountDownLatch(1);
+
+        executor.execute("key1", () -> {
+            try {
+                blocked.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("key2", completed::countDown);
+
+        assertThat(completed.await(10, SECONDS)).isTrue();
+        blocked.countDown();
+    }
+
+    @Test
+    void verifyFailedTaskDoesNotStopKey() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var executed = new CopyOnWriteArrayList<String>();
+
+        executor.execute("key", () -> {
+            throw new RuntimeException("expected");
+        });
+        executor.execute("key", () -> {
+            executed.add("second");
+            latch.countDown();
+        });
+
+        assertThat(latch.await(10, SECONDS)).isTrue();
+        assertThat(executed).isEqualTo(List.of("second"));
+    }
+
+    @Test
+    void verifyRejectedTaskDoesNotStallKey() throws InterruptedException {
+        var reject = new AtomicBoolean(true);
+        var delegate = new ThreadPoolExecutor(1, 1, 0, SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                if (reject.getAndSet(false)) {
+                    throw new RejectedExecutionException("expected");
+                }
+                super.execute(command);
+            }
+        };
+        var rejecting = new KeyedSerialExecutor(delegate);
+        try {
+            assertThatThrownBy(() -> rejecting.execute("key", () -> {
+            })).isInstanceOf(RejectedExecutionException.class);
+            assertThat(rejecting.getActiveKeys()).isZero();
+            assertThat(rejecting.getQueueDepth()).isZero();
+
+            var latch = new CountDownLatch(1);
+            rejecting.execute("key", latch::countDown);
+
+            assertThat(latch.await(10, SECONDS)).isTrue();
+        } finally {
+            rejecting.shutdownNow();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+}
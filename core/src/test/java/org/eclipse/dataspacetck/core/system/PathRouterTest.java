@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.core.system;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathRouterTest {
+    private final PathRouter<String> router = new PathRouter<>();
+
+    @Test
+    void verifyLiteralPrecedence() {
+        router.register("/negotiations/[^/]+/offers", "offers");
+        router.register("/negotiations/request", "request");
+        router.register("/negotiations/[^/]+/request", "counter-request");
+
+        assertThat(router.resolve("/negotiations/request")).isEqualTo("request");
+        assertThat(router.resolve("/negotiations/request/")).isEqualTo("request");
+        assertThat(router.resolve("/negotiations/request/request")).isEqualTo("counter-request");
+        assertThat(router.resolve("/negotiations/123/offers")).isEqualTo("offers");
+        assertThat(router.resolve("/negotiations/123")).isNull();
+        assertThat(router.resolve("/negotiations//offers")).isNull();
+    }
+
+    @Test
+    void verifyBacktracking() {
+        router.register("/foo/bar/baz", "literal");
+        router.register("/foo/[^/]+/qux", "wildcard");
+
+        assertThat(router.resolve("/foo/bar/qux")).isEqualTo("wildcard");
+        assertThat(router.resolve("/foo/bar/baz")).isEqualTo("literal");
+    }
+
+    @Test
+    void verifyRegexSegment() {
+        router.register("/items/[0-9]+", "numeric");
+
+        assertThat(router.resolve("/items/123")).isEqualTo("numeric");
+        assertThat(router.resolve("/items/abc")).isNull();
+    }
+
+    @Test
+    void verifyDeregister() {
+        router.register("/foo/[^/]+/bar/", "value");
+
+        assertThat(router.deregister("/foo/[^/]+/bar")).isTrue();
+        assertThat(router.resolve("/foo/123/bar")).isNull();
+        assertThat(router.deregister("/foo/[^/]+/bar")).isFalse();
+    }
+}
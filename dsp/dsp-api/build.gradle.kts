@@ -13,6 +13,15 @@
  *
  */
 
+plugins {
+    `java-test-fixtures`
+}
+
 dependencies {
     implementation(project(":core"))
 }
+
+// test fixtures are shared with the tests of other modules and are not published
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
@@ -15,6 +15,9 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractAgreementMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractOfferMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import java.util.Map;
@@ -58,16 +61,37 @@ public interface ConsumerNegotiationManager extends NegotiationManager {
     /**
      * Processes an offer received from the provider.
      */
-    Map<String, Object> handleOffer(Map<String, Object> offer);
+    default Map<String, Object> handleOffer(Map<String, Object> offer) {
+        return handleOffer(ContractOfferMessage.from(offer));
+    }
+
+    /**
+     * Processes an offer received from the provider.
+     */
+    Map<String, Object> handleOffer(ContractOfferMessage offer);
+
+    /**
+     * Processes an agreement received from the provider.
+     */
+    default void handleAgreement(Map<String, Object> agreement) {
+        handleAgreement(ContractAgreementMessage.from(agreement));
+    }
 
     /**
      * Processes an agreement received from the provider.
      */
-    void handleAgreement(Map<String, Object> agreement);
+    void handleAgreement(ContractAgreementMessage agreement);
+
+    /**
+     * Processes a finalize event received from the provider.
+     */
+    default void handleFinalized(Map<String, Object> event) {
+        handleFinalized(ContractNegotiationEventMessage.from(event));
+    }
 
     /**
      * Processes a finalize event received from the provider.
      */
-    void handleFinalized(Map<String, Object> event);
+    void handleFinalized(ContractNegotiationEventMessage event);
 
 }
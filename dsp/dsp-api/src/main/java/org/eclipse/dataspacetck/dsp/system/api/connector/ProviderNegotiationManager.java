@@ -15,6 +15,10 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.connector;
 
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractAgreementVerificationMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationTerminationMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractRequestMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import java.util.Map;
@@ -42,22 +46,50 @@ public interface ProviderNegotiationManager extends NegotiationManager {
     /**
      * Transitions the negotiation to {@link ContractNegotiation.State#FINALIZED} state.
      */
-    void terminated(Map<String, Object> termination);
+    default void terminated(Map<String, Object> termination) {
+        terminated(ContractNegotiationTerminationMessage.from(termination));
+    }
+
+    /**
+     * Transitions the negotiation to {@link ContractNegotiation.State#TERMINATED} state.
+     */
+    void terminated(ContractNegotiationTerminationMessage termination);
+
+    /**
+     * Called when a contract request is received.
+     */
+    default Map<String, Object> handleContractRequest(Map<String, Object> contractRequest, String counterPartyId) {
+        return handleContractRequest(ContractRequestMessage.from(contractRequest), counterPartyId);
+    }
 
     /**
      * Called when a contract request is received.
      */
-    Map<String, Object> handleContractRequest(Map<String, Object> contractRequest, String counterPartyId);
+    Map<String, Object> handleContractRequest(ContractRequestMessage contractRequest, String counterPartyId);
 
     /**
      * Processes an accepted event received from the consumer.
      */
-    void handleAccepted(Map<String, Object> event);
+    default void handleAccepted(Map<String, Object> event) {
+        handleAccepted(ContractNegotiationEventMessage.from(event));
+    }
+
+    /**
+     * Processes an accepted event received from the consumer.
+     */
+    void handleAccepted(ContractNegotiationEventMessage event);
+
+    /**
+     * Processes a verification received from the consumer.
+     */
+    default void handleVerified(Map<String, Object> verification) {
+        handleVerified(ContractAgreementVerificationMessage.from(verification));
+    }
 
     /**
      * Processes a verification received from the consumer.
      */
-    void handleVerified(Map<String, Object> verification);
+    void handleVerified(ContractAgreementVerificationMessage verification);
 
 
 }
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A lifecycle-managed HTTP client used to communicate with a connector. Connections are kept alive and pooled across requests,
+ * and asynchronous requests are executed by a shared dispatcher.
+ */
+public class ConnectorHttpClient implements AutoCloseable {
+    private OkHttpClient client;
+    private int maxIdleConnections = 5;
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 64;
+    private String authorizationHeader;
+    private volatile boolean closed;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong connectionsAcquired = new AtomicLong();
+
+    /**
+     * Returns the underlying client.
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Creates a call for the request.
+     *
+     * @throws IllegalStateException if the client has been closed
+     */
+    public Call newCall(Request request) {
+        if (closed) {
+            throw new IllegalStateException("Connector HTTP client is closed, request not sent: " + request.url());
+        }
+        return client.newCall(request);
+    }
+
+    /**
+     * Returns connection reuse statistics.
+     */
+    public Statistics getStatistics() {
+        var acquired = connectionsAcquired.get();
+        var opened = connectionsOpened.get();
+        return new Statistics(requests.get(), opened, Math.max(0, acquired - opened));
+    }
+
+    /**
+     * Evicts pooled connections and stops the dispatcher threads.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    private ConnectorHttpClient() {
+    }
+
+    /**
+     * Connection reuse statistics.
+     *
+     * @param requests           the number of requests made
+     * @param connectionsOpened  the number of new connections that were established
+     * @param connectionsReused  the number of requests served by an already open connection
+     */
+    public record Statistics(long requests, long connectionsOpened, long connectionsReused) {
+
+        @Override
+        public String toString() {
+            return format("requests: %s, connections opened: %s, connections reused: %s", requests, connectionsOpened, connectionsReused);
+        }
+    }
+
+    private class StatisticsListener extends EventListener {
+        @Override
+        public void callStart(Call call) {
+            requests.incrementAndGet();
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectionsOpened.incrementAndGet();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            connectionsAcquired.incrementAndGet();
+        }
+    }
+
+    public static class Builder {
+        private final ConnectorHttpClient httpClient;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * The maximum number of idle connections kept in the pool.
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            httpClient.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * The time an idle connection is kept alive before it is evicted from the pool.
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            httpClient.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests executing concurrently. Asynchronous requests above this limit are queued.
+         */
+        public Builder maxRequests(int maxRequests) {
+            httpClient.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests executing concurrently against a single host.
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            httpClient.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * The value of the {@code Authorization} header added to all requests or null to send none.
+         */
+        public Builder authorizationHeader(@Nullable String authorizationHeader) {
+            httpClient.authorizationHeader = authorizationHeader;
+            return this;
+        }
+
+        public ConnectorHttpClient build() {
+            var listener = httpClient.new StatisticsListener();
+            var dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(httpClient.maxRequests);
+            dispatcher.setMaxRequestsPerHost(httpClient.maxRequestsPerHost);
+            var builder = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(httpClient.maxIdleConnections, httpClient.idleTimeout.toMillis(), MILLISECONDS))
+                    .dispatcher(dispatcher)
+                    .eventListener(listener);
+            var authorizationHeader = httpClient.authorizationHeader;
+            if (authorizationHeader != null) {
+                builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder().header("Authorization", authorizationHeader).build()));
+            }
+            httpClient.client = builder.build();
+            return httpClient;
+        }
+
+        private Builder() {
+            httpClient = new ConnectorHttpClient();
+        }
+    }
+}
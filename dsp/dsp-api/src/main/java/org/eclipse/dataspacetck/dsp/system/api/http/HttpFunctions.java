@@ -15,31 +15,46 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.http;
 
-import okhttp3.Interceptor;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
-import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serializePlainJson;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serializePlainJsonBytes;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.toSerializedForm;
 
 /**
  * Utility methods for HTTP requests.
+ * <p>
+ * Requests are sent using the given client or, if none is passed, the client registered with
+ * {@link #registerClient(ConnectorHttpClient)}. Clients are owned and closed by the system launcher; sending a request without a
+ * registered client or with a closed client fails.
  */
 public class HttpFunctions {
-    private static Interceptor authorizationInterceptor = chain -> chain.proceed(chain.request());
+    public static final int NOT_MODIFIED = 304;
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static volatile ConnectorHttpClient registeredClient;
 
-    public static void registerAuthorizationInterceptor(String authorizationHeader) {
-        authorizationInterceptor = chain -> {
-            var request = chain.request();
-            var authenticatedRequest = request.newBuilder()
-                            .header("Authorization", authorizationHeader).build();
-            return chain.proceed(authenticatedRequest);
-        };
+    /**
+     * Registers the client used by requests that do not pass one. The caller remains responsible for closing it.
+     */
+    public static void registerClient(ConnectorHttpClient client) {
+        registeredClient = client;
+    }
+
+    /**
+     * Removes the registered client. Later requests that do not pass a client fail.
+     */
+    public static void deregisterClient() {
+        registeredClient = null;
     }
 
     public static Response postJson(String url, Object message) {
@@ -51,42 +66,58 @@ public class HttpFunctions {
     }
 
     public static Response postJson(String url, Object message, boolean expectError, boolean plain) {
-        var serialized = plain ? serializePlainJson(message) : serialize(message);
-        var requestBody = RequestBody.create(serialized, MediaType.get("application/json"));
-        var httpRequest = new Request.Builder()
-                .url(url)
-                .post(requestBody)
-                .build();
+        return postJson(registeredClient(), url, message, expectError, plain);
+    }
 
-        var httpClient = new OkHttpClient.Builder().addInterceptor(authorizationInterceptor).build();
+    public static Response postJson(ConnectorHttpClient client, String url, Object message, boolean expectError, boolean plain) {
         try {
-            var response = httpClient.newCall(httpRequest).execute();
-            if (404 == response.code()) {
-                throw new AssertionError("Unexpected 404 received for request: " + url);
-            } else if (!response.isSuccessful()) {
-                if (response.code() < 400 || response.code() >= 500 || !expectError) {
-                    throw new AssertionError("Unexpected response code: " + response.code());
-                }
-            }
+            var response = client.newCall(createPostRequest(url, message, plain)).execute();
+            checkPostResponse(response, url, expectError);
             return response;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Posts the message without blocking the calling thread. The returned future completes exceptionally with an {@link AssertionError}
+     * if the response is unexpected or with a {@link RuntimeException} if the request fails. The caller is responsible for closing the
+     * response.
+     */
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message) {
+        return postJsonAsync(url, message, false);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError) {
+        return postJsonAsync(url, message, expectError, false);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError, boolean plain) {
+        return postJsonAsync(registeredClient(), url, message, expectError, plain);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(ConnectorHttpClient client, String url, Object message, boolean expectError, boolean plain) {
+        return enqueue(client, createPostRequest(url, message, plain), response -> checkPostResponse(response, url, expectError));
+    }
+
     public static Response getJson(String url) {
-        var httpRequest = new Request.Builder()
-                .url(url)
-                .get()
-                .build();
+        return getJson(url, null);
+    }
 
-        var httpClient = new OkHttpClient.Builder().addInterceptor(authorizationInterceptor).build();
+    /**
+     * Retrieves the resource if it no longer matches the entity tag of a previously retrieved representation. If the tag is not null,
+     * it is sent in an {@code If-None-Match} header and a {@code 304 Not Modified} response is returned to the caller, which can then
+     * reuse the previous representation. Servers that do not support conditional requests return the resource.
+     */
+    public static Response getJson(String url, @Nullable String entityTag) {
+        return getJson(registeredClient(), url, entityTag);
+    }
+
+    public static Response getJson(ConnectorHttpClient client, String url, @Nullable String entityTag) {
         try {
-            var response = httpClient.newCall(httpRequest).execute();
-            if (404 == response.code()) {
-                throw new AssertionError("Unexpected 404 received for request: " + url);
-            } else if (!response.isSuccessful()) {
-                throw new AssertionError("Unexpected response code: " + response.code());
+            var response = client.newCall(createGetRequest(url, entityTag)).execute();
+            if (entityTag == null || response.code() != NOT_MODIFIED) {
+                checkGetResponse(response, url);
             }
             return response;
         } catch (IOException e) {
@@ -94,6 +125,90 @@ public class HttpFunctions {
         }
     }
 
+    /**
+     * Retrieves the resource without blocking the calling thread. The returned future completes exceptionally with an
+     * {@link AssertionError} if the response is unexpected or with a {@link RuntimeException} if the request fails. The caller is
+     * responsible for closing the response.
+     */
+    public static CompletableFuture<Response> getJsonAsync(String url) {
+        return getJsonAsync(registeredClient(), url);
+    }
+
+    public static CompletableFuture<Response> getJsonAsync(ConnectorHttpClient client, String url) {
+        return enqueue(client, createGetRequest(url, null), response -> checkGetResponse(response, url));
+    }
+
+    private static CompletableFuture<Response> enqueue(ConnectorHttpClient client, Request request, Consumer<Response> validator) {
+        var future = new CompletableFuture<Response>();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(new RuntimeException(e));
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try {
+                    validator.accept(response);
+                    future.complete(response);
+                } catch (Throwable e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static Request createPostRequest(String url, Object message, boolean plain) {
+        // serialize eagerly so errors are raised to the caller and the content length is known, which avoids chunked encoding
+        var requestBody = RequestBody.create(serializePlainJsonBytes(plain ? message : toSerializedForm(message)), JSON);
+        return new Request.Builder()
+                .url(url)
+                .post(requestBody)
+                .build();
+    }
+
+    private static Request createGetRequest(String url, @Nullable String entityTag) {
+        var builder = new Request.Builder()
+                .url(url)
+                .get();
+        if (entityTag != null) {
+            builder.header("If-None-Match", entityTag);
+        }
+        return builder.build();
+    }
+
+    private static void checkPostResponse(Response response, String url, boolean expectError) {
+        if (404 == response.code()) {
+            response.close();
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful()) {
+            if (response.code() < 400 || response.code() >= 500 || !expectError) {
+                response.close();
+                throw new AssertionError("Unexpected response code: " + response.code());
+            }
+        }
+    }
+
+    private static void checkGetResponse(Response response, String url) {
+        if (404 == response.code()) {
+            response.close();
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful()) {
+            response.close();
+            throw new AssertionError("Unexpected response code: " + response.code());
+        }
+    }
+
+    private static ConnectorHttpClient registeredClient() {
+        var client = registeredClient;
+        if (client == null) {
+            throw new IllegalStateException("No connector HTTP client registered");
+        }
+        return client;
+    }
+
     private HttpFunctions() {
     }
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringValue;
+
+/**
+ * An agreement sent by the provider.
+ *
+ * @param providerPid the provider process id
+ * @param consumerPid the consumer process id
+ * @param message     the expanded message
+ */
+public record ContractAgreementMessage(String providerPid, String consumerPid, Map<String, Object> message) {
+
+    /**
+     * Decodes the message from its expanded JSON-LD form.
+     */
+    public static ContractAgreementMessage from(Map<String, Object> expanded) {
+        String providerPid = null;
+        String consumerPid = null;
+        for (var entry : expanded.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = stringValue(entry.getKey(), ID, entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = stringValue(entry.getKey(), ID, entry.getValue());
+                default -> {
+                    // not used
+                }
+            }
+        }
+        requireNonNull(providerPid, "No value for: " + DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
+        requireNonNull(consumerPid, "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+        return new ContractAgreementMessage(providerPid, consumerPid, expanded);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.optionalStringValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringValue;
+
+/**
+ * A verification sent by the consumer.
+ *
+ * @param providerPid the provider process id
+ * @param consumerPid the consumer process id or null if it is absent or not in a supported form
+ */
+public record ContractAgreementVerificationMessage(String providerPid, @Nullable String consumerPid) {
+
+    /**
+     * Decodes the message from its expanded JSON-LD form. Only the provider process id is required; other properties are decoded
+     * leniently, since handlers do not depend on them.
+     */
+    public static ContractAgreementVerificationMessage from(Map<String, Object> expanded) {
+        String providerPid = null;
+        String consumerPid = null;
+        for (var entry : expanded.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = stringValue(entry.getKey(), ID, entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = optionalStringValue(entry.getValue());
+                default -> {
+                    // not used
+                }
+            }
+        }
+        requireNonNull(providerPid, "No value for: " + DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
+        return new ContractAgreementVerificationMessage(providerPid, consumerPid);
+    }
+}
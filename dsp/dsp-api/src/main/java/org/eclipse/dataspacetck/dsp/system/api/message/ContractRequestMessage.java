@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_OFFER_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.mapValue;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringValue;
+
+/**
+ * A contract request received by a provider. The request is either an initial request, which carries the consumer process id and
+ * callback address, or a counter-offer for an existing negotiation, which carries the provider process id.
+ *
+ * @param providerPid     the provider process id, set if the request is a counter-offer
+ * @param consumerPid     the consumer process id
+ * @param offer           the expanded offer
+ * @param offerId         the offer id
+ * @param callbackAddress the consumer callback address
+ */
+public record ContractRequestMessage(@Nullable String providerPid,
+                                     @Nullable String consumerPid,
+                                     Map<String, Object> offer,
+                                     @Nullable String offerId,
+                                     @Nullable String callbackAddress) {
+
+    /**
+     * Returns true if the request is a counter-offer for an existing negotiation.
+     */
+    public boolean isCounterOffer() {
+        return providerPid != null;
+    }
+
+    /**
+     * Decodes the message from its expanded JSON-LD form.
+     */
+    public static ContractRequestMessage from(Map<String, Object> expanded) {
+        String providerPid = null;
+        String consumerPid = null;
+        Map<String, Object> offer = null;
+        String callbackAddress = null;
+        for (var entry : expanded.entrySet()) {
+            switch (entry.getKey()) {
+                case DSPACE_PROPERTY_PROVIDER_PID_EXPANDED -> providerPid = stringValue(entry.getKey(), ID, entry.getValue());
+                case DSPACE_PROPERTY_CONSUMER_PID_EXPANDED -> consumerPid = stringValue(entry.getKey(), ID, entry.getValue());
+                case DSPACE_PROPERTY_OFFER_EXPANDED -> offer = mapValue(entry.getKey(), entry.getValue());
+                case DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED -> callbackAddress = stringValue(entry.getKey(), VALUE, entry.getValue());
+                default -> {
+                    // not used
+                }
+            }
+        }
+        requireNonNull(offer, "No value for: " + DSPACE_PROPERTY_OFFER_EXPANDED);
+        if (providerPid != null) {
+            return new ContractRequestMessage(providerPid, consumerPid, offer, (String) offer.get(ID), callbackAddress);
+        }
+        requireNonNull(consumerPid, "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+        var offerId = (String) requireNonNull(offer.get(ID), "No value for: " + ID);
+        requireNonNull(callbackAddress, "No value for: " + DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED);
+        return new ContractRequestMessage(null, consumerPid, offer, offerId, callbackAddress);
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.dataspacetck.dsp.system.api.message;
 
 import org.eclipse.dataspacetck.dsp.system.api.metadata.DspTestingWorkaround;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import static java.lang.String.format;
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.CONTEXT;
@@ -63,6 +65,7 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.OdrlConstants.ODRL
  */
 public class MessageFunctions {
     private static final Map<String, String> IDENTITY_TYPE = Map.of("@type", "@id");
+    private static final Map<String, Object> DSP_CONTEXT = buildDspContext();
 
 
     public static Map<String, Object> createTermination(String providerId, String consumerId, String code, String... reasons) {
@@ -219,7 +222,13 @@ public class MessageFunctions {
     }
 
     public static Map<String, Object> mapProperty(String key, Map<String, Object> map) {
-        var untypedValue = requireNonNull(map.get(key), "No value for: " + key);
+        return mapValue(key, requireNonNull(map.get(key), "No value for: " + key));
+    }
+
+    /**
+     * Returns the map contained in the expanded value of the given property.
+     */
+    public static Map<String, Object> mapValue(String key, Object untypedValue) {
         //noinspection rawtypes
         if (untypedValue instanceof List valueList) {
             if (valueList.isEmpty()) {
@@ -250,7 +259,13 @@ public class MessageFunctions {
     }
 
     public static String stringProperty(String key, String valKey, Map<String, Object> map) {
-        var untypedValue = requireNonNull(map.get(key), "No value for: " + key);
+        return stringValue(key, valKey, requireNonNull(map.get(key), "No value for: " + key));
+    }
+
+    /**
+     * Returns the string contained in the given attribute of the expanded value of a property, e.g. {@code @id} or {@code @value}.
+     */
+    public static String stringValue(String key, String valKey, Object untypedValue) {
         //noinspection rawtypes
         if (untypedValue instanceof List valueList) {
             if (valueList.isEmpty()) {
@@ -267,6 +282,19 @@ public class MessageFunctions {
         throw new AssertionError(format("Property '%s' was not in expanded @value form", key));
     }
 
+    /**
+     * Returns the string contained in the {@code @id} or {@code @value} attribute of the expanded value of a property or null if the
+     * value is in neither form. Used for properties that are not required, whose encoding differs between connectors.
+     */
+    @Nullable
+    public static String optionalStringValue(Object untypedValue) {
+        if (untypedValue instanceof List<?> valueList && !valueList.isEmpty() && valueList.get(0) instanceof Map<?, ?> valueContainer) {
+            var value = valueContainer.containsKey(ID) ? valueContainer.get(ID) : valueContainer.get(VALUE);
+            return value == null ? null : value.toString();
+        }
+        return null;
+    }
+
     public static String identityProperty(String key, Map<String, Object> map) {
         var value = requireNonNull(map.get(key), "No value for: " + key);
         if (value instanceof Map) {
@@ -277,7 +305,14 @@ public class MessageFunctions {
         throw new AssertionError(format("Property '%s' was not in expanded @id form", key));
     }
 
+    /**
+     * Returns the DSP context. The context is immutable and shared, which allows the serializer to reuse processing state built for it.
+     */
     public static Map<String, Object> createDspContext() {
+        return DSP_CONTEXT;
+    }
+
+    private static Map<String, Object> buildDspContext() {
         var context = new LinkedHashMap<String, Object>();
         context.put(DSPACE_NAMESPACE_KEY, DSPACE_NAMESPACE);
         context.put(ODRL_NAMESPACE_KEY, ODRL_NAMESPACE);
@@ -286,7 +321,7 @@ public class MessageFunctions {
         context.put(DSPACE_NAMESPACE_PREFIX + "state", IDENTITY_TYPE);
         context.put(DSPACE_NAMESPACE_PREFIX + "consumerPid", IDENTITY_TYPE);
         context.put(DSPACE_NAMESPACE_PREFIX + "providerPid", IDENTITY_TYPE);
-        return context;
+        return unmodifiableMap(context);
     }
 
     @NotNull
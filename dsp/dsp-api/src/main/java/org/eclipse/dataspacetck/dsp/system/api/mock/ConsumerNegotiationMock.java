@@ -30,4 +30,11 @@ public interface ConsumerNegotiationMock extends NegotiationMock {
     void recordOfferedAction(BiConsumer<String, ContractNegotiation> action);
 
     void recordAgreedAction(BiConsumer<String, ContractNegotiation> action);
+
+    /**
+     * Returns a view of this mock whose actions are only executed for the negotiation with the given id or correlation id. A
+     * negotiation with pending bound actions does not execute actions recorded for all negotiations. The bound actions are dropped
+     * once all of them have been executed. Verifying, completing and resetting the view only applies to its actions.
+     */
+    ConsumerNegotiationMock forNegotiation(String key);
 }
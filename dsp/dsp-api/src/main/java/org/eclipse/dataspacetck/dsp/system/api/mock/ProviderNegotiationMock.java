@@ -35,5 +35,11 @@ public interface ProviderNegotiationMock extends NegotiationMock {
      */
     void recordVerifiedAction(Action action);
 
+    /**
+     * Returns a view of this mock whose actions are only executed for the negotiation with the given id or correlation id. A
+     * negotiation with pending bound actions does not execute actions recorded for all negotiations. The bound actions are dropped
+     * once all of them have been executed. Verifying, completing and resetting the view only applies to its actions.
+     */
+    ProviderNegotiationMock forNegotiation(String key);
 
 }
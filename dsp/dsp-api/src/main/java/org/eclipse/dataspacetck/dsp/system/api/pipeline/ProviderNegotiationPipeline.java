@@ -30,6 +30,12 @@ public interface ProviderNegotiationPipeline extends NegotiationPipeline<Provide
 
     ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId);
 
+    /**
+     * Sends a contract request, passing the consumer negotiation to the initializer before the request is sent. This allows mock
+     * actions to be bound to the negotiation before the provider reacts to the request.
+     */
+    ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId, Consumer<ContractNegotiation> initializer);
+
     ProviderNegotiationPipeline sendCounterOfferMessage(String offerId, String targetId);
 
     ProviderNegotiationPipeline sendCounterOfferMessage(String offerId, String targetId, boolean expectError);
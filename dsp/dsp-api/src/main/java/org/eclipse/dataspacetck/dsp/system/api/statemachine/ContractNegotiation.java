@@ -15,29 +15,48 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
-import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
-import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
-import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
-import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.isFinal;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.isLegal;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.legalTargets;
 
 /**
  * The contract negotiation entity.
  * <p>
- * This implementation is thread-safe.
+ * This implementation is thread-safe. By default, reads and transitions are guarded by a read-write lock. In lock-free mode,
+ * reads do not lock and transitions are applied by compare-and-set against the current state; a transition that is no longer legal
+ * because another thread changed the state fails immediately.
+ * <p>
+ * If an event dispatcher is set, listeners and transition work are not run by the transitioning thread. They are queued as a
+ * single event while the state is updated and handed to the dispatcher once the write lock has been released, so the lock is
+ * only held for the state mutation and a dispatcher that blocks does not block readers. When locking, events are dispatched in
+ * transition order.
  */
 public class ContractNegotiation {
 
@@ -55,20 +74,55 @@ public class ContractNegotiation {
     private static final Consumer<ContractNegotiation> NULL_WORK = n -> {
     };
 
+    /**
+     * A state transition and the negotiation data it applied to, captured when the state was updated. Listeners may be notified
+     * after later transitions have been applied, so they should use this instead of reading the negotiation.
+     *
+     * @param negotiation   the negotiation
+     * @param from          the previous state
+     * @param to            the new state
+     * @param correlationId the correlation id
+     * @param offerCount    the number of offers stored
+     * @param lastOffer     the most recently stored offer or null
+     * @param agreement     the agreement or null
+     */
+    public record TransitionEvent(ContractNegotiation negotiation,
+                                  State from,
+                                  State to,
+                                  @Nullable String correlationId,
+                                  int offerCount,
+                                  @Nullable Map<String, Object> lastOffer,
+                                  @Nullable Map<String, Object> agreement) {
+    }
+
     private String id;
-    private String correlationId;
+    private volatile String correlationId;
     private String offerId;
     private String datasetId;
     private String counterPartyId;
     private String callbackAddress;
 
-    private State state = State.INITIALIZED;
+    private final AtomicReference<StateHistory> state = new AtomicReference<>(StateHistory.of(INITIALIZED));
 
     private List<BiConsumer<State, ContractNegotiation>> listeners = new ArrayList<>();
 
-    private List<Map<String, Object>> offers = new ArrayList<>();
+    private List<Consumer<TransitionEvent>> transitionListeners = new ArrayList<>();
+
+    private final List<Map<String, Object>> offers = new CopyOnWriteArrayList<>();
+
+    private volatile Map<String, Object> agreement;
+
+    private boolean lockFree;
+
+    private NegotiationEventDispatcher dispatcher;
+
+    private Consumer<ContractNegotiation> correlationIdListener = NULL_WORK;
+
+    private final Queue<Runnable> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
 
-    private Map<String, Object> agreement;
+    private final Queue<StateWaiter> stateWaiters = new ConcurrentLinkedQueue<>();
 
     private LockManager lockManager = new LockManager();
 
@@ -93,58 +147,102 @@ public class ContractNegotiation {
     }
 
     public String getCorrelationId() {
-        return lockManager.readLock(() -> correlationId);
+        return lockFree ? correlationId : lockManager.readLock(() -> correlationId);
     }
 
     public State getState() {
-        return lockManager.readLock(() -> state);
+        return lockFree ? state.get().current() : lockManager.readLock(() -> state.get().current());
     }
 
     public Map<String, Object> getLastOffer() {
-        return lockManager.readLock(() -> offers.isEmpty() ? null : offers.get(offers.size() - 1));
+        return read(() -> {
+            var snapshot = offers.toArray();
+            //noinspection unchecked
+            return snapshot.length == 0 ? null : (Map<String, Object>) snapshot[snapshot.length - 1];
+        });
     }
 
     public List<Map<String, Object>> getOffers() {
-        return lockManager.readLock(() -> new ArrayList<>(offers));
+        return read(() -> new ArrayList<>(offers));
     }
 
     public Map<String, Object> getAgreement() {
-        return lockManager.readLock(() -> agreement);
+        return lockFree ? agreement : lockManager.readLock(() -> agreement);
+    }
+
+    /**
+     * Returns true if the negotiation uses lock-free transitions.
+     */
+    public boolean isLockFree() {
+        return lockFree;
+    }
+
+    /**
+     * Returns a future that completes when the negotiation has reached the given state, immediately if it already has. The future
+     * completes exceptionally if the negotiation reaches a different final state, since the state can then no longer be reached.
+     */
+    public CompletableFuture<State> onState(State target) {
+        var waiter = new StateWaiter(target, new CompletableFuture<>());
+        stateWaiters.add(waiter);
+        waiter.future.whenComplete((s, e) -> stateWaiters.remove(waiter));
+        waiter.update(state.get());
+        return waiter.future;
+    }
+
+    /**
+     * Waits until the negotiation has reached the given state.
+     *
+     * @return true if the state was reached; false if the timeout elapsed
+     * @throws IllegalStateException if the negotiation reaches a different final state
+     */
+    public boolean awaitState(State target, Duration timeout) {
+        var future = onState(target);
+        try {
+            future.get(timeout.toNanos(), NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return false;
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw (IllegalStateException) e.getCause();
+        }
     }
 
     /**
      * Sets the correlation id.
      */
     public void setCorrelationId(String id, State state) {
-        lockManager.writeLock(() -> {
+        write(() -> {
             this.correlationId = id;
             transition(state);
-            return null;
+            correlationIdListener.accept(this);
         });
     }
 
     /**
-     * Stores the offer and executes the work while holding a write lock.
+     * Stores the offer and executes the work after the state has been updated.
      */
     public void storeOffer(Map<String, Object> offer, State state, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
+        write(() -> {
             offers.add(offer);
             transition(state);
-            return null;
         });
-        work.accept(this);
+        dispatch(() -> work.accept(this));
     }
 
     /**
-     * Stores the agreement and executes the work while holding a write lock.
+     * Stores the agreement and executes the work after the state has been updated.
      */
     public void storeAgreement(Map<String, Object> agreement, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
+        write(() -> {
             this.agreement = agreement;
             transition(AGREED);
-            return null;
         });
-        work.accept(this);
+        dispatch(() -> work.accept(this));
     }
 
     /**
@@ -155,52 +253,117 @@ public class ContractNegotiation {
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Transitions to the new state and executes the work while holding a write-lock. In lock-free mode, listeners are notified and
+     * the work is executed after the state has been updated. If an event dispatcher is set, both are dispatched as one event.
      */
     public void transition(State newState, Consumer<ContractNegotiation> work) throws IllegalStateException {
-        lockManager.writeLock(() -> {
-            var oldState = state;
-            switch (state) {
-                case INITIALIZED -> {
-                    assertStates(newState, REQUESTED, OFFERED, TERMINATED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case REQUESTED -> {
-                    assertStates(newState, OFFERED, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case OFFERED -> {
-                    assertStates(newState, REQUESTED, OFFERED, ACCEPTED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case ACCEPTED -> {
-                    assertStates(newState, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case AGREED -> {
-                    assertStates(newState, VERIFIED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case VERIFIED -> {
-                    assertStates(newState, FINALIZED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case FINALIZED -> throw new IllegalStateException(FINALIZED + " is a final state");
-                case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
-                default -> throw new IllegalStateException("Unexpected value: " + state);
+        if (lockFree) {
+            StateHistory oldHistory;
+            StateHistory newHistory;
+            do {
+                oldHistory = state.get();
+                assertTransition(oldHistory.current(), newState);
+                newHistory = oldHistory.add(newState);
+            } while (!state.compareAndSet(oldHistory, newHistory));
+            notifyListeners(oldHistory.current(), newState, work);
+            notifyWaiters(newHistory);
+            return;
+        }
+        var newHistory = lockManager.writeLock(() -> {
+            var oldHistory = state.get();
+            assertTransition(oldHistory.current(), newState);
+            var history = oldHistory.add(newState);
+            state.set(history);
+            notifyListeners(oldHistory.current(), newState, work);
+            return history;
+        });
+        flushEvents();
+        notifyWaiters(newHistory);
+    }
+
+    /**
+     * Notifies waiters of the history recorded by a transition. Concurrent transitions may notify out of order, so waiters check the
+     * history instead of the current state; a later history always contains the states of earlier ones.
+     */
+    private void notifyWaiters(StateHistory history) {
+        if (!stateWaiters.isEmpty()) {
+            stateWaiters.forEach(waiter -> waiter.update(history));
+        }
+    }
+
+    private void notifyListeners(State oldState, State newState, Consumer<ContractNegotiation> work) {
+        if (listeners.isEmpty() && transitionListeners.isEmpty() && work == NULL_WORK) {
+            return;
+        }
+        var transition = transitionListeners.isEmpty() ? null : captureTransition(oldState, newState);
+        dispatch(() -> {
+            listeners.forEach(l -> l.accept(oldState, this));
+            if (transition != null) {
+                transitionListeners.forEach(l -> l.accept(transition));
             }
             work.accept(this);
-            return null;
         });
     }
 
+    private TransitionEvent captureTransition(State oldState, State newState) {
+        // copy-on-write snapshot, so the count and last offer are consistent
+        var currentOffers = offers.toArray();
+        @SuppressWarnings("unchecked")
+        var lastOffer = currentOffers.length == 0 ? null : (Map<String, Object>) currentOffers[currentOffers.length - 1];
+        return new TransitionEvent(this, oldState, newState, correlationId, currentOffers.length, lastOffer, agreement);
+    }
+
+    /**
+     * Runs the event or, if an event dispatcher is set, dispatches it after the events of previous transitions.
+     */
+    public void dispatch(Runnable event) {
+        if (dispatcher == null) {
+            event.run();
+        } else {
+            pendingEvents.add(event);
+            flushEvents();
+        }
+    }
+
+    /**
+     * Hands pending events to the dispatcher unless the current thread holds the write lock, in which case they are handed over
+     * when it is released. Only one thread hands over events at a time so that their order is kept; other threads leave theirs to
+     * it instead of waiting, as the thread may be waiting on a listener that is transitioning this negotiation.
+     */
+    private void flushEvents() {
+        if (dispatcher == null || lockManager.isWriteLocked()) {
+            return;
+        }
+        while (!pendingEvents.isEmpty() && flushing.compareAndSet(false, true)) {
+            try {
+                Runnable event;
+                while ((event = pendingEvents.poll()) != null) {
+                    dispatcher.dispatch(this, event);
+                }
+            } finally {
+                flushing.set(false);
+            }
+        }
+    }
+
+    private void assertTransition(State fromState, State toState) {
+        if (!isLegal(fromState, toState)) {
+            throw illegalTransition(fromState, toState);
+        }
+        if (fromState == INITIALIZED) {
+            verifyCorrelationId(toState);
+        }
+    }
+
+    private static IllegalStateException illegalTransition(State fromState, State toState) {
+        if (isFinal(fromState)) {
+            return new IllegalStateException(fromState + " is a final state");
+        }
+        var legal = new StringJoiner(", ");
+        legalTargets(fromState).forEach(state -> legal.add(state.toString()));
+        return new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", fromState, toState, legal));
+    }
+
     private void verifyCorrelationId(State newState) {
         if (newState == REQUESTED || newState == OFFERED) {
             if (correlationId == null) {
@@ -209,19 +372,54 @@ public class ContractNegotiation {
         }
     }
 
-    private void assertStates(State toState, State... states) {
-        for (var state : states) {
-            if (toState == state) {
-                return;
-            }
+    private <T> T read(Supplier<T> work) {
+        return lockFree ? work.get() : lockManager.readLock(work);
+    }
+
+    private void write(Runnable work) {
+        if (lockFree) {
+            work.run();
+        } else {
+            lockManager.writeLock(() -> {
+                work.run();
+                return null;
+            });
+            flushEvents();
         }
-        var legalStates = Arrays.stream(states).map(Enum::toString).collect(Collectors.joining(", "));
-        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", this.state, toState, legalStates));
     }
 
     private ContractNegotiation() {
     }
 
+    /**
+     * The current state and the set of states the negotiation has been in, updated atomically.
+     */
+    private record StateHistory(State current, int visited) {
+
+        static StateHistory of(State state) {
+            return new StateHistory(state, 1 << state.ordinal());
+        }
+
+        StateHistory add(State state) {
+            return new StateHistory(state, visited | (1 << state.ordinal()));
+        }
+
+        boolean contains(State state) {
+            return (visited & (1 << state.ordinal())) != 0;
+        }
+    }
+
+    private record StateWaiter(State target, CompletableFuture<State> future) {
+
+        void update(StateHistory history) {
+            if (history.contains(target)) {
+                future.complete(target);
+            } else if (isFinal(history.current())) {
+                future.completeExceptionally(new IllegalStateException(format("Negotiation reached final state %s instead of %s", history.current(), target)));
+            }
+        }
+    }
+
     public static class Builder {
         private ContractNegotiation negotiation;
 
@@ -229,6 +427,14 @@ public class ContractNegotiation {
             return new Builder();
         }
 
+        /**
+         * Sets the id, for example to restore a negotiation. A random id is generated if none is set.
+         */
+        public Builder id(String id) {
+            negotiation.id = id;
+            return this;
+        }
+
         public Builder correlationId(String correlationId) {
             negotiation.correlationId = correlationId;
             return this;
@@ -249,8 +455,40 @@ public class ContractNegotiation {
             return this;
         }
 
+        /**
+         * Adds a listener notified with the data of each transition as it was when the transition was applied.
+         */
+        public Builder transitionListener(Consumer<TransitionEvent> listener) {
+            negotiation.transitionListeners.add(listener);
+            return this;
+        }
+
         public Builder state(State state) {
-            this.negotiation.state = state;
+            this.negotiation.state.set(StateHistory.of(state));
+            return this;
+        }
+
+        /**
+         * Enables lock-free reads and compare-and-set transitions.
+         */
+        public Builder lockFree(boolean lockFree) {
+            this.negotiation.lockFree = lockFree;
+            return this;
+        }
+
+        /**
+         * Sets the dispatcher used to deliver listener notifications and transition work.
+         */
+        public Builder dispatcher(NegotiationEventDispatcher dispatcher) {
+            this.negotiation.dispatcher = dispatcher;
+            return this;
+        }
+
+        /**
+         * Sets a callback invoked when the correlation id is set after the negotiation has been built.
+         */
+        public Builder correlationIdListener(Consumer<ContractNegotiation> listener) {
+            this.negotiation.correlationIdListener = listener;
             return this;
         }
 
@@ -266,8 +504,10 @@ public class ContractNegotiation {
         }
 
         public ContractNegotiation build() {
-            negotiation.id = randomUUID().toString();
-            negotiation.verifyCorrelationId(negotiation.state);
+            if (negotiation.id == null) {
+                negotiation.id = randomUUID().toString();
+            }
+            negotiation.verifyCorrelationId(negotiation.state.get().current());
             return negotiation;
         }
 
@@ -16,7 +16,6 @@
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
@@ -26,7 +25,7 @@ import java.util.function.Supplier;
 class LockManager {
     private static final int TIMEOUT = 5000;
 
-    private final ReadWriteLock lock;
+    private final ReentrantReadWriteLock lock;
 
     LockManager() {
         this.lock = new ReentrantReadWriteLock();
@@ -69,4 +68,11 @@ class LockManager {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * Returns true if the current thread holds the write lock.
+     */
+    public boolean isWriteLocked() {
+        return lock.isWriteLockedByCurrentThread();
+    }
 }
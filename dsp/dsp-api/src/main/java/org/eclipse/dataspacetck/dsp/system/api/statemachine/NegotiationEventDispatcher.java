@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+/**
+ * Delivers state change events of a {@link ContractNegotiation}, for example on another thread.
+ * <p>
+ * Implementations must run the events of a negotiation in the order they are dispatched.
+ */
+@FunctionalInterface
+public interface NegotiationEventDispatcher {
+
+    /**
+     * Dispatches the event for the negotiation.
+     */
+    void dispatch(ContractNegotiation negotiation, Runnable event);
+
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
+
+/**
+ * The legal contract negotiation state transitions. Lookups do not allocate.
+ */
+public class NegotiationTransitions {
+    private static final Map<State, Set<State>> TRANSITIONS = new EnumMap<>(State.class);
+
+    static {
+        add(INITIALIZED, REQUESTED, OFFERED, TERMINATED);
+        add(REQUESTED, OFFERED, AGREED, TERMINATED);
+        add(OFFERED, REQUESTED, OFFERED, ACCEPTED, TERMINATED);
+        add(ACCEPTED, AGREED, TERMINATED);
+        add(AGREED, VERIFIED, TERMINATED);
+        add(VERIFIED, FINALIZED, TERMINATED);
+        add(FINALIZED);
+        add(TERMINATED);
+    }
+
+    /**
+     * A transition between two states.
+     */
+    public record Transition(State from, State to) {
+    }
+
+    /**
+     * Returns true if the negotiation may transition between the states.
+     */
+    public static boolean isLegal(State from, State to) {
+        return TRANSITIONS.get(from).contains(to);
+    }
+
+    /**
+     * Returns true if no transitions are possible from the state.
+     */
+    public static boolean isFinal(State state) {
+        return TRANSITIONS.get(state).isEmpty();
+    }
+
+    /**
+     * Returns the states the negotiation may transition to from the given state, in declaration order.
+     */
+    public static Set<State> legalTargets(State from) {
+        return TRANSITIONS.get(from);
+    }
+
+    /**
+     * Returns all legal transitions.
+     */
+    public static List<Transition> legalTransitions() {
+        return transitions(true);
+    }
+
+    /**
+     * Returns all illegal transitions, including transitions from final states.
+     */
+    public static List<Transition> illegalTransitions() {
+        return transitions(false);
+    }
+
+    private static List<Transition> transitions(boolean legal) {
+        var transitions = new ArrayList<Transition>();
+        for (var from : State.values()) {
+            for (var to : State.values()) {
+                if (isLegal(from, to) == legal) {
+                    transitions.add(new Transition(from, to));
+                }
+            }
+        }
+        return transitions;
+    }
+
+    private static void add(State from, State... to) {
+        var targets = EnumSet.noneOf(State.class);
+        Collections.addAll(targets, to);
+        TRANSITIONS.put(from, Collections.unmodifiableSet(targets));
+    }
+
+    private NegotiationTransitions() {
+    }
+}
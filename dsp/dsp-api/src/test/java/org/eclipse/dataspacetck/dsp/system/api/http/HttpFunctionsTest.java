@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
+import static org.eclipse.dataspacetck.dsp.system.api.http.StubHttpServer.unusedUrl;
+
+class HttpFunctionsTest {
+    private StubHttpServer server;
+    private ConnectorHttpClient httpClient;
+    private String baseUrl;
+
+    @Test
+    void verifyPostAsync() {
+        try (var response = postJsonAsync(httpClient, baseUrl + "/request", Map.of("foo", "bar"), false, true).join()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(server.body()).isEqualTo("{\"foo\":\"bar\"}");
+        assertThat(server.contentLength()).isEqualTo(String.valueOf(server.body().length()));
+    }
+
+    @Test
+    void verifyPostAsyncUnexpectedStatus() {
+        server.status(500);
+        var future = postJsonAsync(httpClient, baseUrl + "/request", Map.of("foo", "bar"), false, true);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void verifyPostAsyncExpectedError() {
+        server.status(400);
+        try (var response = postJsonAsync(httpClient, baseUrl + "/request", Map.of("foo", "bar"), true, true).join()) {
+            assertThat(response.code()).isEqualTo(400);
+        }
+    }
+
+    @Test
+    void verifyPostAsyncNotFound() {
+        server.status(404);
+        var future = postJsonAsync(httpClient, baseUrl + "/request", Map.of("foo", "bar"), true, true);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void verifyPostAsyncConnectionFailure() throws IOException {
+        var future = postJsonAsync(httpClient, unusedUrl() + "/request", Map.of("foo", "bar"), false, true);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyGetAsync() {
+        try (var response = getJsonAsync(httpClient, baseUrl + "/negotiation").join()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void verifyGetAsyncUnexpectedStatus() {
+        server.status(400);
+        var future = getJsonAsync(httpClient, baseUrl + "/negotiation");
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void verifyGetAsyncConnectionFailure() throws IOException {
+        var future = getJsonAsync(httpClient, unusedUrl() + "/negotiation");
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasRootCauseInstanceOf(IOException.class);
+    }
+    @Test
+    void verifyAuthorizationHeader() {
+        try (var authorizedClient = ConnectorHttpClient.Builder.newInstance().authorizationHeader("Bearer token").build();
+             var response = getJsonAsync(authorizedClient, baseUrl + "/negotiation").join()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        assertThat(server.authorization()).isEqualTo("Bearer token");
+    }
+
+    @Test
+    void verifyClosedClientRejectsRequests() {
+        httpClient.close();
+
+        assertThatThrownBy(() -> postJsonAsync(httpClient, baseUrl + "/request", Map.of("foo", "bar"), false, true)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verifyNoRegisteredClient() {
+        assertThatThrownBy(() -> postJsonAsync(baseUrl + "/request", Map.of("foo", "bar"), false, true)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verifyRegisteredClient() {
+        HttpFunctions.registerClient(httpClient);
+        try (var response = postJsonAsync(baseUrl + "/request", Map.of("foo", "bar"), false, true).join()) {
+            assertThat(response.code()).isEqualTo(200);
+        } finally {
+            HttpFunctions.deregisterClient();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = StubHttpServer.start();
+        baseUrl = server.baseUrl();
+        httpClient = ConnectorHttpClient.Builder.newInstance().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        server.close();
+    }
+}
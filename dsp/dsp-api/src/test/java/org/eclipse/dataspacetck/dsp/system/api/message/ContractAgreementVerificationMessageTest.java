@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+
+class ContractAgreementVerificationMessageTest {
+
+    @Test
+    void verifyDecoded() {
+        var message = ContractAgreementVerificationMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1")),
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, List.of(Map.of(ID, "consumer1"))));
+
+        assertThat(message.providerPid()).isEqualTo("provider1");
+        assertThat(message.consumerPid()).isEqualTo("consumer1");
+    }
+
+    @Test
+    void verifyConsumerPidOptional() {
+        var message = ContractAgreementVerificationMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1"))));
+
+        assertThat(message.consumerPid()).isNull();
+    }
+
+    @Test
+    void verifyProviderPidNotInIdForm() {
+        assertThatThrownBy(() -> ContractAgreementVerificationMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, "provider1")))
+                .isInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+
+class ContractNegotiationEventMessageTest {
+
+    @Test
+    void verifyEventTypeAsValue() {
+        var message = ContractNegotiationEventMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1")),
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, List.of(Map.of(ID, "consumer1")),
+                DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, List.of(Map.of(VALUE, "ACCEPTED"))));
+
+        assertThat(message.providerPid()).isEqualTo("provider1");
+        assertThat(message.consumerPid()).isEqualTo("consumer1");
+        assertThat(message.eventType()).isEqualTo("ACCEPTED");
+    }
+
+    @Test
+    void verifyEventTypeAsId() {
+        var message = ContractNegotiationEventMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1")),
+                DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, List.of(Map.of(ID, DSPACE_NAMESPACE + "ACCEPTED"))));
+
+        assertThat(message.eventType()).isEqualTo(DSPACE_NAMESPACE + "ACCEPTED");
+        assertThat(message.consumerPid()).isNull();
+    }
+
+    @Test
+    void verifyUnsupportedOptionalPropertiesIgnored() {
+        var message = ContractNegotiationEventMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1")),
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, "consumer1",
+                DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, List.of()));
+
+        assertThat(message.providerPid()).isEqualTo("provider1");
+        assertThat(message.consumerPid()).isNull();
+        assertThat(message.eventType()).isNull();
+    }
+
+    @Test
+    void verifyMissingProviderPid() {
+        assertThatThrownBy(() -> ContractNegotiationEventMessage.from(Map.of(
+                DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, List.of(Map.of(VALUE, "ACCEPTED")))))
+                .hasMessageContaining(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
+    }
+}
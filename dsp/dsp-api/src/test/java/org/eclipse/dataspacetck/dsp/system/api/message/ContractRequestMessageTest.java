@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_OFFER_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+
+class ContractRequestMessageTest {
+
+    @Test
+    void verifyInitialRequest() {
+        var message = ContractRequestMessage.from(Map.of(
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, List.of(Map.of(ID, "consumer1")),
+                DSPACE_PROPERTY_OFFER_EXPANDED, List.of(Map.of(ID, "offer1")),
+                DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED, List.of(Map.of(VALUE, "https://example.com/callback"))));
+
+        assertThat(message.isCounterOffer()).isFalse();
+        assertThat(message.consumerPid()).isEqualTo("consumer1");
+        assertThat(message.offerId()).isEqualTo("offer1");
+        assertThat(message.callbackAddress()).isEqualTo("https://example.com/callback");
+    }
+
+    @Test
+    void verifyCounterOffer() {
+        var message = ContractRequestMessage.from(Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider1")),
+                DSPACE_PROPERTY_OFFER_EXPANDED, List.of(Map.of(ID, "offer1"))));
+
+        assertThat(message.isCounterOffer()).isTrue();
+        assertThat(message.providerPid()).isEqualTo("provider1");
+    }
+
+    @Test
+    void verifyMissingCallbackAddress() {
+        assertThatThrownBy(() -> ContractRequestMessage.from(Map.of(
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, List.of(Map.of(ID, "consumer1")),
+                DSPACE_PROPERTY_OFFER_EXPANDED, List.of(Map.of(ID, "offer1")))))
+                .hasMessageContaining(DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED);
+    }
+}
@@ -20,17 +20,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -69,6 +83,148 @@ class ContractNegotiationTest {
         verify(listener, times(1)).accept(eq(INITIALIZED), isA(ContractNegotiation.class));
     }
 
+    @Test
+    void verifyCorrelationIdListenerCalled() {
+        var correlationIds = new ArrayList<String>();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationIdListener(n -> correlationIds.add(n.getCorrelationId()))
+                .build();
+        var correlationId = randomUUID().toString();
+
+        negotiation.setCorrelationId(correlationId, REQUESTED);
+
+        assertEquals(List.of(correlationId), correlationIds);
+    }
+
+    @Test
+    void verifyDispatchedListenerCalled() {
+        @SuppressWarnings("unchecked") BiConsumer<ContractNegotiation.State, ContractNegotiation> listener = mock(BiConsumer.class);
+        var events = new ArrayList<Runnable>();
+        var transitioned = new ArrayList<ContractNegotiation.State>();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .listener(listener)
+                .dispatcher((n, event) -> events.add(event))
+                .build();
+
+        negotiation.transition(REQUESTED, n -> transitioned.add(n.getState()));
+        negotiation.transition(TERMINATED, n -> transitioned.add(n.getState()));
+
+        verify(listener, never()).accept(isA(ContractNegotiation.State.class), isA(ContractNegotiation.class));
+        events.forEach(Runnable::run);
+        verify(listener, times(1)).accept(eq(INITIALIZED), isA(ContractNegotiation.class));
+        verify(listener, times(1)).accept(eq(REQUESTED), isA(ContractNegotiation.class));
+        assertEquals(List.of(TERMINATED, TERMINATED), transitioned);
+    }
+
+    @Test
+    void verifyOnState() throws Exception {
+        negotiation.setCorrelationId(randomUUID().toString(), REQUESTED);
+        assertEquals(REQUESTED, negotiation.onState(REQUESTED).get());
+
+        var offered = negotiation.onState(OFFERED);
+        assertFalse(offered.isDone());
+        negotiation.transition(OFFERED);
+        assertEquals(OFFERED, offered.getNow(null));
+    }
+
+    @Test
+    void verifyOnStateNotReachable() {
+        var accepted = negotiation.onState(ACCEPTED);
+        negotiation.transition(TERMINATED);
+
+        var exception = assertThrows(ExecutionException.class, accepted::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertThrows(IllegalStateException.class, () -> negotiation.awaitState(ACCEPTED, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void verifyOnStateNotifiedOutOfOrder() throws Exception {
+        // the listener terminates the negotiation before waiters are notified of the offer
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .state(REQUESTED)
+                .lockFree(true)
+                .listener((oldState, n) -> {
+                    if (oldState == REQUESTED) {
+                        n.transition(TERMINATED);
+                    }
+                })
+                .build();
+        var offered = negotiation.onState(OFFERED);
+
+        negotiation.transition(OFFERED);
+
+        assertEquals(OFFERED, offered.get());
+        assertEquals(OFFERED, negotiation.onState(OFFERED).get());
+        assertEquals(TERMINATED, negotiation.getState());
+    }
+
+    @Test
+    void verifyAwaitState() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            assertFalse(negotiation.awaitState(TERMINATED, Duration.ofMillis(10)));
+            executor.execute(() -> negotiation.transition(TERMINATED));
+            assertTrue(negotiation.awaitState(TERMINATED, Duration.ofSeconds(5)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyLockFreeTransitions() {
+        negotiation = ContractNegotiation.Builder.newInstance().datasetId(randomUUID().toString()).lockFree(true).build();
+
+        assertThrows(IllegalStateException.class, () -> negotiation.transition(REQUESTED));
+        negotiation.setCorrelationId(randomUUID().toString(), REQUESTED);
+        assertThrows(IllegalStateException.class, () -> negotiation.transition(ACCEPTED));
+        negotiation.transition(TERMINATED);
+
+        assertEquals(TERMINATED, negotiation.getState());
+        assertThrows(IllegalStateException.class, () -> negotiation.transition(TERMINATED));
+    }
+
+    @Test
+    void verifyLockFreeConcurrentTransitions() throws InterruptedException {
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .state(OFFERED)
+                .lockFree(true)
+                .build();
+        var threads = 8;
+        var start = new CountDownLatch(1);
+        var done = new CountDownLatch(threads);
+        var succeeded = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (var i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        negotiation.transition(ACCEPTED);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalStateException | InterruptedException e) {
+                        // expected for all but one thread since ACCEPTED cannot transition to ACCEPTED
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertTrue(done.await(10, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, succeeded.get());
+        assertEquals(ACCEPTED, negotiation.getState());
+    }
+
     @BeforeEach
     void setUp() {
         negotiation = ContractNegotiation.Builder.newInstance().datasetId(randomUUID().toString()).build();
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.Transition;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NegotiationTransitionsTest {
+
+    @ParameterizedTest
+    @MethodSource("legalTransitions")
+    void verifyLegalTransition(Transition transition) {
+        var negotiation = createNegotiation(transition);
+
+        negotiation.transition(transition.to());
+
+        assertEquals(transition.to(), negotiation.getState());
+    }
+
+    @ParameterizedTest
+    @MethodSource("illegalTransitions")
+    void verifyIllegalTransition(Transition transition) {
+        var negotiation = createNegotiation(transition);
+
+        assertThrows(IllegalStateException.class, () -> negotiation.transition(transition.to()));
+        assertEquals(transition.from(), negotiation.getState());
+    }
+
+    private static List<Transition> legalTransitions() {
+        return NegotiationTransitions.legalTransitions();
+    }
+
+    private static List<Transition> illegalTransitions() {
+        return NegotiationTransitions.illegalTransitions();
+    }
+
+    private ContractNegotiation createNegotiation(Transition transition) {
+        return ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .state(transition.from())
+                .build();
+    }
+}
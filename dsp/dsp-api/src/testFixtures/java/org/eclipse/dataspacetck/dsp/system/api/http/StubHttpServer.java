@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An HTTP server for tests that answers every request with a JSON body and a configurable status code, and records the last request.
+ */
+public class StubHttpServer implements AutoCloseable {
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> path = new AtomicReference<>();
+    private final AtomicReference<String> body = new AtomicReference<>();
+    private final AtomicReference<String> contentLength = new AtomicReference<>();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private final HttpServer server;
+
+    /**
+     * Starts a server on an ephemeral port.
+     */
+    public static StubHttpServer start() throws IOException {
+        return new StubHttpServer();
+    }
+
+    /**
+     * Returns a URL on a local port nothing is listening on.
+     */
+    public static String unusedUrl() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return "http://localhost:" + socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Sets the status code returned for subsequent requests.
+     */
+    public void status(int code) {
+        status.set(code);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public String path() {
+        return path.get();
+    }
+
+    public String body() {
+        return body.get();
+    }
+
+    public String contentLength() {
+        return contentLength.get();
+    }
+
+    public String authorization() {
+        return authorization.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private StubHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                var headers = exchange.getRequestHeaders();
+                contentLength.set(headers.getFirst("Content-Length"));
+                authorization.set(headers.getFirst("Authorization"));
+                body.set(new String(exchange.getRequestBody().readAllBytes(), UTF_8));
+                path.set(exchange.getRequestURI().getPath());
+                var response = "{}".getBytes(UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status.get(), response.length);
+                exchange.getResponseBody().write(response);
+            }
+        });
+        server.start();
+    }
+}
@@ -24,6 +24,7 @@ dependencies {
     implementation(project(":core"))
     implementation(project(":dsp:dsp-api"))
     testImplementation(project(":dsp:dsp-system"))
+    testImplementation(testFixtures(project(":dsp:dsp-api")))
 }
 
 tasks.test {
@@ -19,10 +19,12 @@ import org.eclipse.dataspacetck.api.system.TestSequenceDiagram;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 
+import java.util.concurrent.CountDownLatch;
+
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
-import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.pause;
+import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.awaitSignal;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postOffer;
 import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postTerminate;
 
@@ -155,9 +157,10 @@ public class ContractNegotiationProvider02Test extends AbstractContractNegotiati
             """)
     public void cn_02_05() {
 
+        var terminationExpected = new CountDownLatch(1);
         negotiationMock.recordContractRequestedAction(negotiation -> {
             postOffer(negotiation);
-            pause();
+            awaitSignal(terminationExpected);
             postTerminate(negotiation);
         });
 
@@ -166,6 +169,7 @@ public class ContractNegotiationProvider02Test extends AbstractContractNegotiati
                 .sendRequestMessage(datasetId, offerId)
                 .thenWaitForState(OFFERED)
                 .expectTermination()
+                .then(terminationExpected::countDown)
                 .thenWaitForState(TERMINATED)
                 .execute();
 
@@ -18,9 +18,15 @@ package org.eclipse.dataspacetck.dsp.verification.cn;
 import okhttp3.Response;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createAgreement;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createFinalizedEvent;
@@ -38,64 +44,109 @@ public class ProviderActions {
     private static final String NEGOTIATION_TERMINATE_TEMPLATE = "%s/negotiations/%s/termination/";
     private static final String NEGOTIATION_AGREEMENT_TEMPLATE = "%s/negotiations/%s/agreement";
     private static final String NEGOTIATION_FINALIZE_TEMPLATE = "%s/negotiations/%s/events";
+    private static final long SIGNAL_TIMEOUT_SECONDS = 30;
 
     public static void postOffer(ContractNegotiation negotiation) {
-        var contractOffer = createOffer(
-                negotiation.getId(),
-                negotiation.getCorrelationId(),
-                randomUUID().toString(),
-                randomUUID().toString(),
-                negotiation.getCounterPartyId(),
-                TCK_PARTICIPANT_ID,
-                "empty");
-
+        var contractOffer = createContractOffer(negotiation);
         negotiation.transition(OFFERED);
-        var url = format(NEGOTIATION_OFFER_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId());
-        try (var response = postJson(url, contractOffer)) {
-            checkResponse(response);
-        }
+        checkResponse(postJson(format(NEGOTIATION_OFFER_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), contractOffer));
     }
 
     public static void postAgreed(ContractNegotiation negotiation) {
-        var agreement = createAgreement(negotiation.getId(),
-                negotiation.getCorrelationId(),
-                randomUUID().toString(),
-                negotiation.getCounterPartyId(),
-                TCK_PARTICIPANT_ID,
-                negotiation.getDatasetId());
-
+        var agreement = createContractAgreement(negotiation);
         negotiation.transition(AGREED);
-        try (var response = postJson(format(NEGOTIATION_AGREEMENT_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), agreement)) {
-            checkResponse(response);
-        }
+        checkResponse(postJson(format(NEGOTIATION_AGREEMENT_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), agreement));
     }
 
     public static void postFinalized(ContractNegotiation negotiation) {
         negotiation.transition(FINALIZED);
         var event = createFinalizedEvent(negotiation.getId(), negotiation.getCorrelationId());
-        try (var response = postJson(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event)) {
-            checkResponse(response);
-        }
+        checkResponse(postJson(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event));
     }
 
     public static void postTerminate(ContractNegotiation negotiation) {
         var termination = createTermination(negotiation.getId(), negotiation.getCorrelationId(), "1");
-        try (var response = postJson(format(NEGOTIATION_TERMINATE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), termination)) {
-            checkResponse(response);
-        }
+        checkResponse(postJson(format(NEGOTIATION_TERMINATE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), termination));
+    }
+
+    /**
+     * Transitions the negotiation to {@code OFFERED} and posts the offer without blocking the calling thread.
+     */
+    public static CompletableFuture<Void> postOfferAsync(ContractNegotiation negotiation) {
+        var contractOffer = createContractOffer(negotiation);
+        negotiation.transition(OFFERED);
+        return postJsonAsync(format(NEGOTIATION_OFFER_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), contractOffer)
+                .thenAccept(ProviderActions::checkResponse);
+    }
+
+    /**
+     * Transitions the negotiation to {@code AGREED} and posts the agreement without blocking the calling thread.
+     */
+    public static CompletableFuture<Void> postAgreedAsync(ContractNegotiation negotiation) {
+        var agreement = createContractAgreement(negotiation);
+        negotiation.transition(AGREED);
+        return postJsonAsync(format(NEGOTIATION_AGREEMENT_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), agreement)
+                .thenAccept(ProviderActions::checkResponse);
+    }
+
+    /**
+     * Transitions the negotiation to {@code FINALIZED} and posts the finalized event without blocking the calling thread.
+     */
+    public static CompletableFuture<Void> postFinalizedAsync(ContractNegotiation negotiation) {
+        negotiation.transition(FINALIZED);
+        var event = createFinalizedEvent(negotiation.getId(), negotiation.getCorrelationId());
+        return postJsonAsync(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event)
+                .thenAccept(ProviderActions::checkResponse);
+    }
+
+    /**
+     * Posts a termination without blocking the calling thread.
+     */
+    public static CompletableFuture<Void> postTerminateAsync(ContractNegotiation negotiation) {
+        var termination = createTermination(negotiation.getId(), negotiation.getCorrelationId(), "1");
+        return postJsonAsync(format(NEGOTIATION_TERMINATE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), termination)
+                .thenAccept(ProviderActions::checkResponse);
     }
 
-    public static void pause() {
+    /**
+     * Blocks until the test signals that the next message can be sent, for example once it has registered the handler for it.
+     */
+    public static void awaitSignal(CountDownLatch signal) {
         try {
-            Thread.sleep(100);
+            if (!signal.await(SIGNAL_TIMEOUT_SECONDS, SECONDS)) {
+                throw new AssertionError("Timeout waiting for the test to be ready for the next message");
+            }
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
 
+    private static Map<String, Object> createContractOffer(ContractNegotiation negotiation) {
+        return createOffer(
+                negotiation.getId(),
+                negotiation.getCorrelationId(),
+                randomUUID().toString(),
+                randomUUID().toString(),
+                negotiation.getCounterPartyId(),
+                TCK_PARTICIPANT_ID,
+                "empty");
+    }
+
+    private static Map<String, Object> createContractAgreement(ContractNegotiation negotiation) {
+        return createAgreement(negotiation.getId(),
+                negotiation.getCorrelationId(),
+                randomUUID().toString(),
+                negotiation.getCounterPartyId(),
+                TCK_PARTICIPANT_ID,
+                negotiation.getDatasetId());
+    }
+
     private static void checkResponse(Response response) {
-        if (!response.isSuccessful()) {
-            throw new AssertionError("Unexpected response code: " + response.code());
+        try (response) {
+            if (!response.isSuccessful()) {
+                throw new AssertionError("Unexpected response code: " + response.code());
+            }
         }
     }
 
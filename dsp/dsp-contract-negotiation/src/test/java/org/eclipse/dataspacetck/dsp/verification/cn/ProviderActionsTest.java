@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.verification.cn;
+
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
+import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.http.StubHttpServer;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postAgreedAsync;
+import static org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions.postOfferAsync;
+
+class ProviderActionsTest {
+    private StubHttpServer server;
+    private ConnectorHttpClient httpClient;
+    private ContractNegotiation negotiation;
+
+    @Test
+    void verifyPostOfferAsync() {
+        postOfferAsync(negotiation).join();
+
+        assertThat(negotiation.getState()).isEqualTo(OFFERED);
+        assertThat(server.path()).isEqualTo("/negotiations/" + negotiation.getCorrelationId() + "/offers/");
+    }
+
+    @Test
+    void verifyPostAgreedAsync() {
+        postAgreedAsync(negotiation).join();
+
+        assertThat(negotiation.getState()).isEqualTo(AGREED);
+        assertThat(server.path()).isEqualTo("/negotiations/" + negotiation.getCorrelationId() + "/agreement");
+    }
+
+    @Test
+    void verifyPostOfferAsyncUnexpectedStatus() {
+        server.status(400);
+        var future = postOfferAsync(negotiation);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = StubHttpServer.start();
+        httpClient = ConnectorHttpClient.Builder.newInstance().build();
+        HttpFunctions.registerClient(httpClient);
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .counterPartyId("consumer")
+                .callbackAddress(server.baseUrl())
+                .state(REQUESTED)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HttpFunctions.deregisterClient();
+        httpClient.close();
+        server.close();
+    }
+}
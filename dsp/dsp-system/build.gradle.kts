@@ -16,4 +16,5 @@
 dependencies {
     api(project(":dsp:dsp-api"))
     implementation(project(":core"))
+    testImplementation(testFixtures(project(":dsp:dsp-api")))
 }
@@ -21,8 +21,11 @@ import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
 import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.SystemLauncher;
+import org.eclipse.dataspacetck.core.system.KeyedSerialExecutor;
+import org.eclipse.dataspacetck.core.system.MeteredExecutor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Consumer;
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
 import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ConsumerNegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
@@ -32,6 +35,10 @@ import org.eclipse.dataspacetck.dsp.system.client.ConsumerNegotiationClient;
 import org.eclipse.dataspacetck.dsp.system.client.ConsumerNegotiationClientImpl;
 import org.eclipse.dataspacetck.dsp.system.client.ProviderNegotiationClient;
 import org.eclipse.dataspacetck.dsp.system.client.ProviderNegotiationClientImpl;
+import org.eclipse.dataspacetck.dsp.system.connector.ConnectorConfiguration;
+import org.eclipse.dataspacetck.dsp.system.connector.NegotiationEventBus;
+import org.eclipse.dataspacetck.dsp.system.connector.NegotiationJournal;
+import org.eclipse.dataspacetck.dsp.system.connector.RetentionPolicy;
 import org.eclipse.dataspacetck.dsp.system.connector.TckConnector;
 import org.eclipse.dataspacetck.dsp.system.mock.ConsumerNegotiationMockImpl;
 import org.eclipse.dataspacetck.dsp.system.mock.NoOpConsumerNegotiationMock;
@@ -41,12 +48,21 @@ import org.eclipse.dataspacetck.dsp.system.pipeline.ConsumerNegotiationPipelineI
 import org.eclipse.dataspacetck.dsp.system.pipeline.ProviderNegotiationPipelineImpl;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
-import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.POOL_MODE;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.createExecutor;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.newVirtualThreadExecutor;
 
 /**
  * Instantiates and bootstraps a DSP test fixture.
@@ -59,8 +75,30 @@ public class DspSystemLauncher implements SystemLauncher {
     private static final String CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG = TCK_PREFIX + ".dsp.connector.http.headers.authorization";
     private static final String CONNECTOR_INITIATE_URL_CONFIG = TCK_PREFIX + ".dsp.connector.negotiation.initiate.url";
     private static final String THREAD_POOL_CONFIG = TCK_PREFIX + ".dsp.thread.pool";
+    private static final String MOCK_EXECUTOR_CONFIG = TCK_PREFIX + ".dsp.mock.executor";
+    private static final String KEYED_MODE = "keyed";
     private static final String DEFAULT_WAIT_CONFIG = TCK_PREFIX + ".dsp.default.wait";
+    private static final String HTTP_POOL_SIZE_CONFIG = TCK_PREFIX + ".dsp.http.pool.size";
+    private static final String HTTP_IDLE_TIMEOUT_CONFIG = TCK_PREFIX + ".dsp.http.idle.timeout";
+    private static final String HTTP_MAX_REQUESTS_CONFIG = TCK_PREFIX + ".dsp.http.max.requests";
+    private static final String HTTP_MAX_REQUESTS_PER_HOST_CONFIG = TCK_PREFIX + ".dsp.http.max.requests.per.host";
+    private static final String LOCK_FREE_NEGOTIATION_CONFIG = TCK_PREFIX + ".dsp.negotiation.lockfree";
+    private static final String ASYNC_EVENTS_CONFIG = TCK_PREFIX + ".dsp.negotiation.events.async";
+    private static final String EVENT_QUEUE_SIZE_CONFIG = TCK_PREFIX + ".dsp.negotiation.events.queue.size";
+    private static final String EVENT_PUBLISH_TIMEOUT_CONFIG = TCK_PREFIX + ".dsp.negotiation.events.publish.timeout";
+    private static final String RETENTION_MAX_CONFIG = TCK_PREFIX + ".dsp.negotiation.retention.max";
+    private static final String RETENTION_TTL_CONFIG = TCK_PREFIX + ".dsp.negotiation.retention.ttl";
+    private static final String RETENTION_SPILL_DIR_CONFIG = TCK_PREFIX + ".dsp.negotiation.retention.spill.dir";
+    private static final String JOURNAL_FILE_CONFIG = TCK_PREFIX + ".dsp.negotiation.journal.file";
+    private static final String JOURNAL_FLUSH_INTERVAL_CONFIG = TCK_PREFIX + ".dsp.negotiation.journal.flush.interval";
+    private static final String JOURNAL_SYNC_CONFIG = TCK_PREFIX + ".dsp.negotiation.journal.sync";
     private static final int DEFAULT_WAIT_SECONDS = 15;
+    private static final int DEFAULT_HTTP_POOL_SIZE = 5;
+    private static final long DEFAULT_HTTP_IDLE_TIMEOUT_SECONDS = 300;
+    private static final int DEFAULT_HTTP_MAX_REQUESTS = 64;
+    private static final int DEFAULT_EVENT_QUEUE_SIZE = 64;
+    private static final long DEFAULT_EVENT_PUBLISH_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_JOURNAL_FLUSH_INTERVAL_MILLIS = 10;
     private final Map<String, Connector> consumerConnectors = new ConcurrentHashMap<>();
     private final Map<String, Connector> providerConnectors = new ConcurrentHashMap<>();
     private final Map<String, ProviderNegotiationMock> negotiationMocks = new ConcurrentHashMap<>();
@@ -68,7 +106,13 @@ public class DspSystemLauncher implements SystemLauncher {
     private final Map<String, ConsumerNegotiationMock> consumerNegotiationMocks = new ConcurrentHashMap<>();
     private final Map<String, ConsumerNegotiationClient> consumerNegotiationClients = new ConcurrentHashMap<>();
     private Monitor monitor;
-    private ExecutorService executor;
+    private Executor executor;
+    private ExecutorService eventExecutor;
+    private ExecutorService evictionExecutor;
+    private NegotiationEventBus eventBus;
+    private NegotiationJournal journal;
+    private ConnectorHttpClient httpClient;
+    private ConnectorConfiguration connectorConfiguration;
     private String connectorUnderTestId = "ANONYMOUS";
     private String baseConnectorUrl;
     private String baseAuthorizationHeader;
@@ -80,17 +124,50 @@ public class DspSystemLauncher implements SystemLauncher {
     public void start(SystemConfiguration configuration) {
         this.monitor = configuration.getMonitor();
         waitTime = configuration.getPropertyAsLong(DEFAULT_WAIT_CONFIG, DEFAULT_WAIT_SECONDS);
-        executor = newFixedThreadPool(configuration.getPropertyAsInt(THREAD_POOL_CONFIG, 10));
+        executor = createMockExecutor(configuration);
         useLocalConnector = configuration.getPropertyAsBoolean(LOCAL_CONNECTOR_CONFIG, false);
+        if (configuration.getPropertyAsBoolean(ASYNC_EVENTS_CONFIG, false)) {
+            // listeners may block on negotiation state, so they are not run on the pool shared with mock actions
+            eventExecutor = newCachedThreadPool();
+            eventBus = new NegotiationEventBus(eventExecutor, monitor,
+                    configuration.getPropertyAsInt(EVENT_QUEUE_SIZE_CONFIG, DEFAULT_EVENT_QUEUE_SIZE),
+                    Duration.ofSeconds(configuration.getPropertyAsLong(EVENT_PUBLISH_TIMEOUT_CONFIG, DEFAULT_EVENT_PUBLISH_TIMEOUT_SECONDS)));
+        }
+        var journalFile = configuration.getPropertyAsString(JOURNAL_FILE_CONFIG, null);
+        if (journalFile != null) {
+            journal = new NegotiationJournal(Path.of(journalFile),
+                    Duration.ofMillis(configuration.getPropertyAsLong(JOURNAL_FLUSH_INTERVAL_CONFIG, DEFAULT_JOURNAL_FLUSH_INTERVAL_MILLIS)),
+                    configuration.getPropertyAsBoolean(JOURNAL_SYNC_CONFIG, false),
+                    monitor);
+        }
+        var retentionPolicy = createRetentionPolicy(configuration);
+        var connectorConfigurationBuilder = ConnectorConfiguration.Builder.newInstance()
+                .lockFreeNegotiations(configuration.getPropertyAsBoolean(LOCK_FREE_NEGOTIATION_CONFIG, false))
+                .eventBus(eventBus)
+                .retentionPolicy(retentionPolicy)
+                .journal(journal);
+        if (retentionPolicy.isBounded()) {
+            // evictions may spill negotiations to disk, so they run on a dedicated thread
+            evictionExecutor = newSingleThreadExecutor();
+            connectorConfigurationBuilder.evictionExecutor(evictionExecutor);
+        }
+        connectorConfiguration = connectorConfigurationBuilder.build();
+        if (!useLocalConnector) {
+            baseAuthorizationHeader = configuration.getPropertyAsString(CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG, null);
+        }
+        httpClient = ConnectorHttpClient.Builder.newInstance()
+                .maxIdleConnections(configuration.getPropertyAsInt(HTTP_POOL_SIZE_CONFIG, DEFAULT_HTTP_POOL_SIZE))
+                .idleTimeout(Duration.ofSeconds(configuration.getPropertyAsLong(HTTP_IDLE_TIMEOUT_CONFIG, DEFAULT_HTTP_IDLE_TIMEOUT_SECONDS)))
+                .maxRequests(configuration.getPropertyAsInt(HTTP_MAX_REQUESTS_CONFIG, DEFAULT_HTTP_MAX_REQUESTS))
+                .maxRequestsPerHost(configuration.getPropertyAsInt(HTTP_MAX_REQUESTS_PER_HOST_CONFIG, DEFAULT_HTTP_MAX_REQUESTS))
+                .authorizationHeader(baseAuthorizationHeader)
+                .build();
+        HttpFunctions.registerClient(httpClient);
         if (!useLocalConnector) {
             baseConnectorUrl = configuration.getPropertyAsString(CONNECTOR_BASE_URL_CONFIG, null);
             if (baseConnectorUrl == null) {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_BASE_URL_CONFIG);
             }
-            baseAuthorizationHeader = configuration.getPropertyAsString(CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG, null);
-            if (baseAuthorizationHeader != null) {
-                HttpFunctions.registerAuthorizationInterceptor(baseAuthorizationHeader);
-            }
             connectorInitiateUrl = configuration.getPropertyAsString(CONNECTOR_INITIATE_URL_CONFIG, null);
             if (connectorInitiateUrl == null) {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_INITIATE_URL_CONFIG);
@@ -104,8 +181,46 @@ public class DspSystemLauncher implements SystemLauncher {
 
     @Override
     public void close() {
-        if (executor != null) {
-            executor.shutdownNow();
+        if (executor instanceof KeyedSerialExecutor keyed) {
+            monitor.debug("Mock executor statistics: " + keyed.formatMetrics());
+            keyed.shutdownNow();
+        } else if (executor instanceof MeteredExecutor metered) {
+            monitor.debug("Mock executor statistics: " + metered.formatMetrics());
+            metered.shutdownNow();
+        }
+        if (eventExecutor != null) {
+            monitor.debug("Negotiation event bus statistics: " + eventBus.formatMetrics());
+            eventExecutor.shutdownNow();
+        }
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+        if (journal != null) {
+            journal.close();
+            monitor.debug("Negotiation journal statistics: " + journal.formatMetrics());
+        }
+        consumerConnectors.forEach((scopeId, connector) -> logMetrics("consumer", scopeId, connector));
+        providerConnectors.forEach((scopeId, connector) -> logMetrics("provider", scopeId, connector));
+        if (httpClient != null) {
+            monitor.debug("Connector HTTP client statistics: " + httpClient.getStatistics());
+            HttpFunctions.deregisterClient();
+            httpClient.close();
+        }
+    }
+
+    @Override
+    public void scopeClosed(String scopeId) {
+        negotiationMocks.remove(scopeId);
+        consumerNegotiationMocks.remove(scopeId);
+        negotiationClients.remove(scopeId);
+        consumerNegotiationClients.remove(scopeId);
+        var consumerConnector = consumerConnectors.remove(scopeId);
+        if (consumerConnector != null) {
+            logMetrics("consumer", scopeId, consumerConnector);
+        }
+        var providerConnector = providerConnectors.remove(scopeId);
+        if (providerConnector != null) {
+            logMetrics("provider", scopeId, providerConnector);
         }
     }
 
@@ -140,11 +255,47 @@ public class DspSystemLauncher implements SystemLauncher {
         return null;
     }
 
+    /**
+     * Creates the executor running mock actions. In addition to the modes supported by the callback server, {@code keyed} runs the
+     * actions of a negotiation one at a time in order while actions of different negotiations run in parallel on virtual threads.
+     */
+    private Executor createMockExecutor(SystemConfiguration configuration) {
+        var mode = configuration.getPropertyAsString(MOCK_EXECUTOR_CONFIG, POOL_MODE);
+        if (KEYED_MODE.equalsIgnoreCase(mode)) {
+            return new KeyedSerialExecutor(newVirtualThreadExecutor());
+        }
+        return new MeteredExecutor(createExecutor(mode, configuration.getPropertyAsInt(THREAD_POOL_CONFIG, 10)));
+    }
+
+    private RetentionPolicy createRetentionPolicy(SystemConfiguration configuration) {
+        var builder = RetentionPolicy.Builder.newInstance()
+                .maxEntries(configuration.getPropertyAsInt(RETENTION_MAX_CONFIG, Integer.MAX_VALUE));
+        var ttl = configuration.getPropertyAsLong(RETENTION_TTL_CONFIG, -1);
+        if (ttl >= 0) {
+            builder.finalTtl(Duration.ofSeconds(ttl));
+        }
+        var spillDirectory = configuration.getPropertyAsString(RETENTION_SPILL_DIR_CONFIG, null);
+        if (spillDirectory != null) {
+            try {
+                builder.spillDirectory(Files.createDirectories(Path.of(spillDirectory)));
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to create negotiation spill directory: " + spillDirectory, e);
+            }
+        }
+        return builder.build();
+    }
+
+    private void logMetrics(String role, String scopeId, Connector connector) {
+        if (connector instanceof TckConnector tckConnector) {
+            monitor.debug("Negotiation metrics for " + role + " connector in " + scopeId + ": " + tckConnector.formatMetrics());
+        }
+    }
+
     private <T> T createProviderPipeline(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
         var scopeId = configuration.getScopeId();
         var negotiationClient = createNegotiationClient(scopeId);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor, connectorConfiguration));
         var pipeline = new ProviderNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
                 consumerConnector,
@@ -158,7 +309,7 @@ public class DspSystemLauncher implements SystemLauncher {
         var scopeId = configuration.getScopeId();
         var negotiationClient = createConsumerNegotiationClient(scopeId, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor, connectorConfiguration));
         var pipeline = new ConsumerNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
                 providerConnector,
@@ -171,7 +322,7 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createProviderNegotiationMock(Class<T> type, String scopeId) {
         return type.cast(negotiationMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor, connectorConfiguration));
                 return new ProviderNegotiationMockImpl(connector.getProviderNegotiationManager(), executor);
             } else {
                 return new NoOpProviderNegotiationMock();
@@ -182,7 +333,7 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createConsumerNegotiationMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return type.cast(consumerNegotiationMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor, connectorConfiguration));
                 var negotiationManager = connector.getConsumerNegotiationManager();
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
@@ -196,27 +347,27 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createConnector(Class<T> type, ServiceConfiguration configuration) {
         var scopeId = configuration.getScopeId();
         if (configuration.getAnnotations().stream().anyMatch(a -> a.annotationType().equals(Consumer.class))) {
-            return type.cast(consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+            return type.cast(consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor, connectorConfiguration)));
         }
-        return type.cast(providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+        return type.cast(providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor, connectorConfiguration)));
     }
 
     private ProviderNegotiationClient createNegotiationClient(String scopeId) {
         return negotiationClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                return new ProviderNegotiationClientImpl(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)), monitor);
+                return new ProviderNegotiationClientImpl(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor, connectorConfiguration)), monitor);
             }
-            return new ProviderNegotiationClientImpl(baseConnectorUrl, monitor);
+            return new ProviderNegotiationClientImpl(baseConnectorUrl, httpClient, monitor);
         });
     }
 
     private ConsumerNegotiationClient createConsumerNegotiationClient(String scopeId,
                                                                       ServiceConfiguration configuration,
                                                                       ServiceResolver resolver) {
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor, connectorConfiguration));
         return consumerNegotiationClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor, connectorConfiguration));
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 return new ConsumerNegotiationClientImpl(consumerConnector, providerConnector, monitor);
             }
@@ -226,6 +377,7 @@ public class DspSystemLauncher implements SystemLauncher {
                     connectorInitiateUrl,
                     providerConnector,
                     callbackEndpoint.getAddress(),
+                    httpClient,
                     monitor);
         });
     }
@@ -14,8 +14,68 @@
 
 package org.eclipse.dataspacetck.dsp.system.client;
 
+import okhttp3.Response;
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.NOT_MODIFIED;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+
 /**
  * Base negotiation client functionality.
+ * <p>
+ * Negotiations retrieved from a remote connector are cached with their entity tags, so repeated retrievals, for example when polling
+ * for a state, are sent as conditional requests. Connectors that support them answer with {@code 304 Not Modified} instead of
+ * sending an unchanged negotiation again.
  */
 public abstract class AbstractNegotiationClient {
+    private static final int MAX_CACHED_NEGOTIATIONS = 256;
+
+    private final Map<String, CachedNegotiation> cachedNegotiations = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedNegotiation> eldest) {
+            return size() > MAX_CACHED_NEGOTIATIONS;
+        }
+    };
+
+    /**
+     * The client owned by the system launcher used to send requests, or null if messages are dispatched to a local connector.
+     */
+    protected final ConnectorHttpClient httpClient;
+
+    protected AbstractNegotiationClient(@Nullable ConnectorHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    private record CachedNegotiation(String entityTag, Map<String, Object> negotiation) {
+    }
+
+    /**
+     * Retrieves the negotiation at the URL, reusing the cached representation if the connector reports it has not been modified.
+     */
+    protected Map<String, Object> getNegotiationConditionally(String url, Function<Response, Map<String, Object>> reader) {
+        CachedNegotiation cached;
+        synchronized (cachedNegotiations) {
+            cached = cachedNegotiations.get(url);
+        }
+        var response = getJson(httpClient, url, cached == null ? null : cached.entityTag());
+        if (cached != null && response.code() == NOT_MODIFIED) {
+            response.close();
+            return cached.negotiation();
+        }
+        var entityTag = response.header("ETag");
+        var negotiation = reader.apply(response);
+        synchronized (cachedNegotiations) {
+            if (entityTag == null) {
+                cachedNegotiations.remove(url);
+            } else {
+                cachedNegotiations.put(url, new CachedNegotiation(entityTag, negotiation));
+            }
+        }
+        return negotiation;
+    }
 }
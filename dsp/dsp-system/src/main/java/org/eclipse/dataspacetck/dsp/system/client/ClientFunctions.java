@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+/**
+ * Functions shared by the client implementations.
+ */
+final class ClientFunctions {
+
+    /**
+     * Runs an action against a local connector and returns its result as a completed future. Errors complete the future exceptionally.
+     */
+    static <T> CompletableFuture<T> completeLocally(Supplier<T> action) {
+        try {
+            return completedFuture(action.get());
+        } catch (RuntimeException | AssertionError e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Runs an action against a local connector and returns a completed future. Errors complete the future exceptionally.
+     */
+    static CompletableFuture<Void> completeLocally(Runnable action) {
+        return completeLocally(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private ClientFunctions() {
+    }
+}
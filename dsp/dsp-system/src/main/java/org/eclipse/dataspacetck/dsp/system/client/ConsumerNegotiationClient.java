@@ -15,6 +15,7 @@
 package org.eclipse.dataspacetck.dsp.system.client;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy to the consumer connector being verified for contract negotiation.
@@ -45,4 +46,29 @@ public interface ConsumerNegotiationClient {
      * Retrieves the negotiation from the provider.
      */
     Map<String, Object> getNegotiation(String consumerId, String callbackAddress);
+
+    /**
+     * Signals to the consumer connector to initiate a contract request without blocking the calling thread.
+     */
+    CompletableFuture<Void> initiateRequestAsync(String datasetId, String offerId);
+
+    /**
+     * Sends an offer to the consumer connector without blocking the calling thread.
+     */
+    CompletableFuture<Void> contractOfferAsync(String consumerId, Map<String, Object> offer, String callbackAddress, boolean expectError);
+
+    /**
+     * Sends an agreement to the consumer connector without blocking the calling thread.
+     */
+    CompletableFuture<Void> contractAgreementAsync(String consumerId, Map<String, Object> agreement, String callbackAddress);
+
+    /**
+     * Sends the finalized event to the consumer connector without blocking the calling thread.
+     */
+    CompletableFuture<Void> finalizeAsync(String consumerId, Map<String, Object> event, String callbackAddress, boolean expectError);
+
+    /**
+     * Retrieves the negotiation from the consumer connector without blocking the calling thread.
+     */
+    CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress);
 }
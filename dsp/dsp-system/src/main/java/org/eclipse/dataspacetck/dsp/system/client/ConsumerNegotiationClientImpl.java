@@ -14,16 +14,20 @@
 
 package org.eclipse.dataspacetck.dsp.system.client;
 
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
 import org.eclipse.dataspacetck.dsp.system.api.metadata.DspTestingWorkaround;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
-import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
@@ -31,11 +35,12 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_P
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createDspContext;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createNegotiationResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
+import static org.eclipse.dataspacetck.dsp.system.client.ClientFunctions.completeLocally;
 
 /**
  * Default implementation that supports dispatch to a local, in-memory test connector or a remote connector system via HTTP.
  */
-public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient {
+public class ConsumerNegotiationClientImpl extends AbstractNegotiationClient implements ConsumerNegotiationClient {
     private static final String GET_PATH = "%s/negotiations/%s";
 
     @DspTestingWorkaround("Should be %s/negotiations/%s/offers")
@@ -52,7 +57,9 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
     public ConsumerNegotiationClientImpl(String consumerConnectorInitiateUrl,
                                          Connector providerConnector,
                                          String providerConnectorBaseUrl,
+                                         ConnectorHttpClient httpClient,
                                          Monitor monitor) {
+        super(httpClient);
         this.consumerConnectorInitiateUrl = consumerConnectorInitiateUrl;
         this.providerConnector = providerConnector;
         this.providerConnectorBaseUrl = providerConnectorBaseUrl;
@@ -62,6 +69,7 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
     public ConsumerNegotiationClientImpl(Connector consumerConnector,
                                          Connector providerConnector,
                                          Monitor monitor) {
+        super(null);
         this.systemConsumerConnector = consumerConnector;
         this.providerConnector = providerConnector;
         this.monitor = monitor;
@@ -72,10 +80,7 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
         if (systemConsumerConnector != null) {
             systemConsumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId);
         } else {
-            var request = Map.of("providerId", TCK_PARTICIPANT_ID, "offerId", offerId, "connectorAddress", providerConnectorBaseUrl);
-            try (var response = postJson(consumerConnectorInitiateUrl, request, false, true)) {
-                monitor.debug("Received contract request response");
-            }
+            readResponse(postJson(httpClient, consumerConnectorInitiateUrl, createInitiateRequest(offerId), false, true), "contract request");
         }
     }
 
@@ -85,11 +90,7 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
         if (systemConsumerConnector != null) {
             systemConsumerConnector.getConsumerNegotiationManager().handleOffer(compacted);
         } else {
-            try (var response = postJson(format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError)) {
-                monitor.debug("Received contract request response");
-                // TODO Validate response
-                // processJsonLd(response.body().byteStream(), createDspContext());
-            }
+            readResponse(postJson(httpClient, format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError, false), "contract offer");
         }
     }
 
@@ -99,11 +100,7 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
         if (systemConsumerConnector != null) {
             systemConsumerConnector.getConsumerNegotiationManager().handleAgreement(compacted);
         } else {
-            try (var response = postJson(format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, false)) {
-                monitor.debug("Received contract agreement response");
-                // TODO Validate response
-                // processJsonLd(response.body().byteStream(), createDspContext());
-            }
+            readResponse(postJson(httpClient, format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, false, false), "contract agreement");
         }
     }
 
@@ -113,11 +110,7 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
         if (systemConsumerConnector != null) {
             systemConsumerConnector.getConsumerNegotiationManager().handleFinalized(compacted);
         } else {
-            try (var response = postJson(format(FINALIZE_PATH, callbackAddress, consumerId), event, false)) {
-                monitor.debug("Received contract finalize response");
-                // TODO Validate response
-                // processJsonLd(response.body().byteStream(), createDspContext());
-            }
+            readResponse(postJson(httpClient, format(FINALIZE_PATH, callbackAddress, consumerId), event, false, false), "contract finalize");
         }
     }
 
@@ -129,14 +122,74 @@ public class ConsumerNegotiationClientImpl implements ConsumerNegotiationClient
             var state = DSPACE_NAMESPACE + negotiation.getState().toString();
             return processJsonLd(createNegotiationResponse(consumerId, consumerPid, state), createDspContext());
         } else {
-            try (var response = getJson(format(GET_PATH, callbackAddress, consumerId))) {
-                //noinspection DataFlowIssue
-                var jsonResponse = processJsonLd(response.body().byteStream(), createDspContext());
-                var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-                var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-                monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
-                return jsonResponse;
-            }
+            return getNegotiationConditionally(format(GET_PATH, callbackAddress, consumerId), this::readNegotiationResponse);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> initiateRequestAsync(String datasetId, String offerId) {
+        if (systemConsumerConnector != null) {
+            return completeLocally(() -> initiateRequest(datasetId, offerId));
+        }
+        return postJsonAsync(httpClient, consumerConnectorInitiateUrl, createInitiateRequest(offerId), false, true)
+                .thenAccept(response -> readResponse(response, "contract request"));
+    }
+
+    @Override
+    public CompletableFuture<Void> contractOfferAsync(String consumerId, Map<String, Object> offer, String callbackAddress, boolean expectError) {
+        if (systemConsumerConnector != null) {
+            return completeLocally(() -> contractOffer(consumerId, offer, callbackAddress, expectError));
+        }
+        return postJsonAsync(httpClient, format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError, false)
+                .thenAccept(response -> readResponse(response, "contract offer"));
+    }
+
+    @Override
+    public CompletableFuture<Void> contractAgreementAsync(String consumerId, Map<String, Object> agreement, String callbackAddress) {
+        if (systemConsumerConnector != null) {
+            return completeLocally(() -> contractAgreement(consumerId, agreement, callbackAddress));
+        }
+        return postJsonAsync(httpClient, format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, false, false)
+                .thenAccept(response -> readResponse(response, "contract agreement"));
+    }
+
+    @Override
+    public CompletableFuture<Void> finalizeAsync(String consumerId, Map<String, Object> event, String callbackAddress, boolean expectError) {
+        if (systemConsumerConnector != null) {
+            return completeLocally(() -> finalize(consumerId, event, callbackAddress, expectError));
+        }
+        return postJsonAsync(httpClient, format(FINALIZE_PATH, callbackAddress, consumerId), event, false, false)
+                .thenAccept(response -> readResponse(response, "contract finalize"));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress) {
+        if (systemConsumerConnector != null) {
+            return completeLocally(() -> getNegotiation(consumerId, callbackAddress));
+        }
+        return getJsonAsync(httpClient, format(GET_PATH, callbackAddress, consumerId)).thenApply(this::readNegotiationResponse);
+    }
+
+    private Map<String, Object> createInitiateRequest(String offerId) {
+        return Map.of("providerId", TCK_PARTICIPANT_ID, "offerId", offerId, "connectorAddress", providerConnectorBaseUrl);
+    }
+
+    private void readResponse(Response response, String type) {
+        try (response) {
+            monitor.debug(format("Received %s response", type));
+            // TODO Validate response
+            // processJsonLd(response.body().byteStream(), createDspContext());
+        }
+    }
+
+    private Map<String, Object> readNegotiationResponse(Response response) {
+        try (response) {
+            //noinspection DataFlowIssue
+            var jsonResponse = processJsonLd(response.body().byteStream(), createDspContext());
+            var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+            var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+            monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
+            return jsonResponse;
         }
     }
 }
@@ -15,7 +15,11 @@
 
 package org.eclipse.dataspacetck.dsp.system.client;
 
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy to the provider connector being verified for contract negotiation.
@@ -47,4 +51,36 @@ public interface ProviderNegotiationClient {
      */
     Map<String, Object> getNegotiation(String processId);
 
+    /**
+     * Returns a future that completes when the provider's negotiation has reached the state, or null if the provider runs out of
+     * process and its state can only be retrieved with {@link #getNegotiation(String)}.
+     */
+    @Nullable
+    CompletableFuture<State> onState(String processId, State state);
+
+    /**
+     * Sends the contract request to the provider without blocking the calling thread.
+     */
+    CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError);
+
+    /**
+     * Sends the accepted event to the provider connector without blocking the calling thread.
+     */
+    CompletableFuture<Void> acceptAsync(Map<String, Object> event);
+
+    /**
+     * Sends the verified event to the provider connector without blocking the calling thread.
+     */
+    CompletableFuture<Void> verifyAsync(Map<String, Object> event, boolean expectError);
+
+    /**
+     * Terminates the negotiation with the provider without blocking the calling thread.
+     */
+    CompletableFuture<Void> terminateAsync(Map<String, Object> termination, boolean expectError);
+
+    /**
+     * Retrieves the negotiation from the provider without blocking the calling thread.
+     */
+    CompletableFuture<Map<String, Object>> getNegotiationAsync(String processId);
+
 }
@@ -18,13 +18,18 @@ package org.eclipse.dataspacetck.dsp.system.client;
 import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
-import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
@@ -33,11 +38,12 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.c
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createDspContext;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createNegotiationResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
+import static org.eclipse.dataspacetck.dsp.system.client.ClientFunctions.completeLocally;
 
 /**
  * Default implementation that supports dispatch to a local, in-memory test connector or a remote connector system via HTTP.
  */
-public class ProviderNegotiationClientImpl implements ProviderNegotiationClient {
+public class ProviderNegotiationClientImpl extends AbstractNegotiationClient implements ProviderNegotiationClient {
     private static final String GET_PATH = "negotiations/%s";
     private static final String REQUEST_PATH = "negotiations/request";
     private static final String TERMINATE_PATH = "negotiations/%s/termination";
@@ -48,12 +54,14 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
     private Connector systemConnector;
     private Monitor monitor;
 
-    public ProviderNegotiationClientImpl(String connectorBaseUrl, Monitor monitor) {
+    public ProviderNegotiationClientImpl(String connectorBaseUrl, ConnectorHttpClient httpClient, Monitor monitor) {
+        super(httpClient);
         this.providerConnectorBaseUrl = connectorBaseUrl.endsWith("/") ? connectorBaseUrl : connectorBaseUrl + "/";
         this.monitor = monitor;
     }
 
     public ProviderNegotiationClientImpl(Connector systemConnector, Monitor monitor) {
+        super(null);
         this.systemConnector = systemConnector;
         this.monitor = monitor;
     }
@@ -76,11 +84,7 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
                 return Map.of();
             }
         } else {
-            try (var response = postJson(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError)) {
-                monitor.debug("Received contract request response");
-                //noinspection DataFlowIssue
-                return processJsonLd(response.body().byteStream(), createDspContext());
-            }
+            return readContractRequestResponse(postJson(httpClient, providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError, false));
         }
     }
 
@@ -91,12 +95,7 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
             systemConnector.getProviderNegotiationManager().handleAccepted(compacted);
         } else {
             var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
-            try (var response = postJson(providerConnectorBaseUrl + format(EVENT_PATH, providerId), event)) {
-                if (!response.isSuccessful()) {
-                    throw new AssertionError(format("Accept event failed with code %s: %s ", response.code(), providerId));
-                }
-                monitor.debug("Received accept response: " + providerId);
-            }
+            readAcceptResponse(postJson(httpClient, providerConnectorBaseUrl + format(EVENT_PATH, providerId), event, false, false), providerId);
         }
     }
 
@@ -117,10 +116,7 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
             }
         } else {
             var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
-            try (var response = postJson(providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError)) {
-                validateResponse(response, providerId, expectError, "verify");
-                monitor.debug("Received verification response: " + providerId);
-            }
+            readResponse(postJson(httpClient, providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError, false), providerId, expectError, "verify");
         }
     }
 
@@ -141,10 +137,7 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
             }
         } else {
             var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, termination);
-            try (var response = postJson(providerConnectorBaseUrl + format(TERMINATE_PATH, providerId), termination, expectError)) {
-                validateResponse(response, providerId, expectError, "terminate");
-                monitor.debug("Received negotiation terminate response: " + providerId);
-            }
+            readResponse(postJson(httpClient, providerConnectorBaseUrl + format(TERMINATE_PATH, providerId), termination, expectError, false), providerId, expectError, "terminate");
         }
     }
 
@@ -156,14 +149,98 @@ public class ProviderNegotiationClientImpl implements ProviderNegotiationClient
             var state = DSPACE_NAMESPACE + negotiation.getState().toString();
             return processJsonLd(createNegotiationResponse(providerPid, consumerPid, state), createDspContext());
         } else {
-            try (var response = getJson(providerConnectorBaseUrl + format(GET_PATH, providerPid))) {
-                //noinspection DataFlowIssue
-                var jsonResponse = processJsonLd(response.body().byteStream(), createDspContext());
-                var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-                var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-                monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
-                return jsonResponse;
+            return getNegotiationConditionally(providerConnectorBaseUrl + format(GET_PATH, providerPid), this::readNegotiationResponse);
+        }
+    }
+
+    @Nullable
+    @Override
+    public CompletableFuture<State> onState(String providerPid, State state) {
+        if (systemConnector == null) {
+            return null;
+        }
+        return systemConnector.getProviderNegotiationManager().findById(providerPid).onState(state);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
+        if (systemConnector != null) {
+            return completeLocally(() -> contractRequest(contractRequest, counterPartyId, expectError));
+        }
+        return postJsonAsync(httpClient, providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError, false)
+                .thenApply(this::readContractRequestResponse);
+    }
+
+    @Override
+    public CompletableFuture<Void> acceptAsync(Map<String, Object> event) {
+        if (systemConnector != null) {
+            return completeLocally(() -> accept(event));
+        }
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
+        return postJsonAsync(httpClient, providerConnectorBaseUrl + format(EVENT_PATH, providerId), event, false, false)
+                .thenAccept(response -> readAcceptResponse(response, providerId));
+    }
+
+    @Override
+    public CompletableFuture<Void> verifyAsync(Map<String, Object> event, boolean expectError) {
+        if (systemConnector != null) {
+            return completeLocally(() -> verify(event, expectError));
+        }
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
+        return postJsonAsync(httpClient, providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError, false)
+                .thenAccept(response -> readResponse(response, providerId, expectError, "verify"));
+    }
+
+    @Override
+    public CompletableFuture<Void> terminateAsync(Map<String, Object> termination, boolean expectError) {
+        if (systemConnector != null) {
+            return completeLocally(() -> terminate(termination, expectError));
+        }
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, termination);
+        return postJsonAsync(httpClient, providerConnectorBaseUrl + format(TERMINATE_PATH, providerId), termination, expectError, false)
+                .thenAccept(response -> readResponse(response, providerId, expectError, "terminate"));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String providerPid) {
+        if (systemConnector != null) {
+            return completeLocally(() -> getNegotiation(providerPid));
+        }
+        return getJsonAsync(httpClient, providerConnectorBaseUrl + format(GET_PATH, providerPid)).thenApply(this::readNegotiationResponse);
+    }
+
+    private Map<String, Object> readContractRequestResponse(Response response) {
+        try (response) {
+            monitor.debug("Received contract request response");
+            //noinspection DataFlowIssue
+            return processJsonLd(response.body().byteStream(), createDspContext());
+        }
+    }
+
+    private void readAcceptResponse(Response response, String providerId) {
+        try (response) {
+            if (!response.isSuccessful()) {
+                throw new AssertionError(format("Accept event failed with code %s: %s ", response.code(), providerId));
             }
+            monitor.debug("Received accept response: " + providerId);
+        }
+    }
+
+    private void readResponse(Response response, String providerId, boolean expectError, String type) {
+        try (response) {
+            validateResponse(response, providerId, expectError, type);
+            monitor.debug(format("Received %s response: %s", type, providerId));
+        }
+    }
+
+    private Map<String, Object> readNegotiationResponse(Response response) {
+        try (response) {
+            //noinspection DataFlowIssue
+            var jsonResponse = processJsonLd(response.body().byteStream(), createDspContext());
+            var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+            var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+            monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
+            return jsonResponse;
         }
     }
 
@@ -20,17 +20,50 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serializePlainJson;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.isFinal;
 
 /**
  * Base implementation.
  */
 public abstract class AbstractNegotiationManager implements NegotiationManager {
+    // rough heap costs used for metrics: a negotiation excluding its offers and agreement, and the parts of their JSON structure
+    private static final int NEGOTIATION_OVERHEAD_BYTES = 512;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int CONTAINER_OVERHEAD_BYTES = 48;
+    private static final int ENTRY_OVERHEAD_BYTES = 32;
+    private static final int VALUE_OVERHEAD_BYTES = 16;
+
     protected Map<String, ContractNegotiation> negotiations = new ConcurrentHashMap<>();
+    protected Map<String, ContractNegotiation> correlationIndex = new ConcurrentHashMap<>();
     protected Queue<NegotiationListener> listeners = new ConcurrentLinkedQueue<>();
+    protected ConnectorConfiguration configuration;
+
+    private final Queue<FinalNegotiation> finalNegotiations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong spillFailures = new AtomicLong();
+    private final AtomicBoolean evictionRequested = new AtomicBoolean();
+    private final AtomicBoolean expiryScheduled = new AtomicBoolean();
+
+    protected AbstractNegotiationManager(ConnectorConfiguration configuration) {
+        this.configuration = configuration;
+    }
 
     @NotNull
     @Override
@@ -45,9 +78,7 @@ public abstract class AbstractNegotiationManager implements NegotiationManager {
     @Nullable
     @Override
     public ContractNegotiation findByCorrelationId(String id) {
-        return negotiations.values().stream()
-                .filter(n -> id.equals(n.getCorrelationId()))
-                .findAny().orElse(null);
+        return correlationIndex.get(id);
     }
 
     @Override
@@ -65,5 +96,193 @@ public abstract class AbstractNegotiationManager implements NegotiationManager {
         listeners.remove(listener);
     }
 
+    /**
+     * Returns a builder for creating negotiations managed by this instance.
+     */
+    protected ContractNegotiation.Builder negotiationBuilder() {
+        var builder = ContractNegotiation.Builder.newInstance()
+                .lockFree(configuration.isLockFreeNegotiations())
+                .dispatcher(configuration.getEventBus())
+                .correlationIdListener(this::indexCorrelationId)
+                .listener((oldState, negotiation) -> trackFinal(negotiation));
+        var journal = configuration.getJournal();
+        if (journal != null) {
+            builder.transitionListener(transition -> journal.transitioned(journalRole(), transition));
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the role recorded for negotiations of this manager in the journal.
+     */
+    protected abstract NegotiationJournal.Role journalRole();
 
+    /**
+     * Adds a negotiation created with {@link #negotiationBuilder()} to this manager. If a negotiation with the same correlation id
+     * is already registered, the new negotiation is discarded.
+     *
+     * @return the registered negotiation, which is the existing one if the correlation id was already registered
+     */
+    protected ContractNegotiation register(ContractNegotiation negotiation) {
+        var correlationId = negotiation.getCorrelationId();
+        if (correlationId != null) {
+            var existing = correlationIndex.putIfAbsent(correlationId, negotiation);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        negotiations.put(negotiation.getId(), negotiation);
+        var journal = configuration.getJournal();
+        if (journal != null) {
+            journal.created(journalRole(), negotiation);
+        }
+        requestEviction();
+        return negotiation;
+    }
+
+    /**
+     * Evicts negotiations in a final state according to the retention policy. Eviction is requested when negotiations are
+     * registered or reach a final state and when the time-to-live of the oldest final negotiation elapses. It runs on the eviction
+     * executor, but may also be called directly.
+     */
+    public void evictFinalNegotiations() {
+        var policy = configuration.getRetentionPolicy();
+        if (!policy.isBounded()) {
+            return;
+        }
+        var ttl = policy.getFinalTtl();
+        var now = System.nanoTime();
+        FinalNegotiation oldest;
+        while ((oldest = finalNegotiations.peek()) != null) {
+            var expired = ttl != null && now - oldest.finalAt() >= ttl.toNanos();
+            if (!expired && negotiations.size() <= policy.getMaxEntries()) {
+                if (ttl != null) {
+                    scheduleExpiry(oldest.finalAt() + ttl.toNanos() - now);
+                }
+                return;
+            }
+            if (finalNegotiations.remove(oldest)) {
+                evict(oldest.negotiation());
+            }
+        }
+    }
+
+    /**
+     * Returns a summary of retained negotiations, evictions and their approximate heap usage.
+     */
+    public String formatMetrics() {
+        var retained = negotiations.values();
+        var bytes = retained.stream().mapToLong(AbstractNegotiationManager::estimateSize).sum();
+        return format("negotiations retained: %s (final: %s), evicted: %s, spilled: %s, spill failures: %s, estimated heap: %s KiB",
+                retained.size(), finalNegotiations.size(), evicted.get(), spilled.get(), spillFailures.get(), bytes / 1024);
+    }
+
+    private void indexCorrelationId(ContractNegotiation negotiation) {
+        correlationIndex.put(negotiation.getCorrelationId(), negotiation);
+    }
+
+    private void trackFinal(ContractNegotiation negotiation) {
+        if (configuration.getRetentionPolicy().isBounded() && isFinal(negotiation.getState())) {
+            finalNegotiations.add(new FinalNegotiation(negotiation, System.nanoTime()));
+            requestEviction();
+        }
+    }
+
+    /**
+     * Runs an eviction on the eviction executor unless one is already pending.
+     */
+    private void requestEviction() {
+        if (configuration.getRetentionPolicy().isBounded() && evictionRequested.compareAndSet(false, true)) {
+            configuration.getEvictionExecutor().execute(() -> {
+                evictionRequested.set(false);
+                evictFinalNegotiations();
+            });
+        }
+    }
+
+    /**
+     * Runs an eviction once the oldest final negotiation expires unless one is already scheduled.
+     */
+    private void scheduleExpiry(long delayNanos) {
+        if (expiryScheduled.compareAndSet(false, true)) {
+            delayedExecutor(delayNanos, NANOSECONDS, configuration.getEvictionExecutor()).execute(() -> {
+                expiryScheduled.set(false);
+                evictFinalNegotiations();
+            });
+        }
+    }
+
+    private void evict(ContractNegotiation negotiation) {
+        var spillDirectory = configuration.getRetentionPolicy().getSpillDirectory();
+        if (spillDirectory != null) {
+            try (var stream = Files.newOutputStream(spillDirectory.resolve(negotiation.getId() + ".json"))) {
+                serializePlainJson(toSpillForm(negotiation), stream);
+                spilled.incrementAndGet();
+            } catch (IOException | RuntimeException e) {
+                // keep the negotiation rather than lose it; it is no longer tracked for eviction
+                spillFailures.incrementAndGet();
+                return;
+            }
+        }
+        negotiations.remove(negotiation.getId(), negotiation);
+        var correlationId = negotiation.getCorrelationId();
+        if (correlationId != null) {
+            correlationIndex.remove(correlationId, negotiation);
+        }
+        evicted.incrementAndGet();
+    }
+
+    private static Map<String, Object> toSpillForm(ContractNegotiation negotiation) {
+        var form = new LinkedHashMap<String, Object>();
+        form.put("id", negotiation.getId());
+        form.put("correlationId", negotiation.getCorrelationId());
+        form.put("state", negotiation.getState().toString());
+        form.put("datasetId", negotiation.getDatasetId());
+        form.put("offerId", negotiation.getOfferId());
+        form.put("counterPartyId", negotiation.getCounterPartyId());
+        form.put("callbackAddress", negotiation.getCallbackAddress());
+        form.put("offers", negotiation.getOffers());
+        form.put("agreement", negotiation.getAgreement());
+        return form;
+    }
+
+    private static long estimateSize(ContractNegotiation negotiation) {
+        long size = NEGOTIATION_OVERHEAD_BYTES;
+        for (var offer : negotiation.getOffers()) {
+            size += estimateJsonSize(offer);
+        }
+        return size + estimateJsonSize(negotiation.getAgreement());
+    }
+
+    /**
+     * Approximates the retained size of an offer or agreement by walking its structure, which avoids serializing it.
+     */
+    private static long estimateJsonSize(@Nullable Object value) {
+        if (value instanceof String string) {
+            return STRING_OVERHEAD_BYTES + string.length();
+        } else if (value instanceof Map<?, ?> map) {
+            long size = CONTAINER_OVERHEAD_BYTES;
+            for (var entry : map.entrySet()) {
+                size += ENTRY_OVERHEAD_BYTES + estimateJsonSize(entry.getKey()) + estimateJsonSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Collection<?> collection) {
+            long size = CONTAINER_OVERHEAD_BYTES;
+            for (var element : collection) {
+                size += ENTRY_OVERHEAD_BYTES + estimateJsonSize(element);
+            }
+            return size;
+        }
+        return value == null ? 0 : VALUE_OVERHEAD_BYTES;
+    }
+
+    private record FinalNegotiation(ContractNegotiation negotiation, long finalAt) {
+    }
+
+    /**
+     * Notifies the listeners of an event that is not the result of a state transition, using the negotiation's dispatcher if set.
+     */
+    protected void notifyListeners(ContractNegotiation negotiation, Consumer<NegotiationListener> event) {
+        negotiation.dispatch(() -> listeners.forEach(event));
+    }
 }
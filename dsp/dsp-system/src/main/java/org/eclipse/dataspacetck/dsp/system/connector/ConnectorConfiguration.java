@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configures the behavior of a {@link TckConnector}.
+ */
+public class ConnectorConfiguration {
+    private boolean lockFreeNegotiations;
+    private NegotiationEventBus eventBus;
+    private RetentionPolicy retentionPolicy = RetentionPolicy.retainAll();
+    private Executor evictionExecutor = ForkJoinPool.commonPool();
+    private NegotiationJournal journal;
+
+    /**
+     * Returns a configuration with default settings.
+     */
+    public static ConnectorConfiguration defaultConfiguration() {
+        return Builder.newInstance().build();
+    }
+
+    /**
+     * Returns true if negotiations should use lock-free state transitions.
+     */
+    public boolean isLockFreeNegotiations() {
+        return lockFreeNegotiations;
+    }
+
+    /**
+     * Returns the bus used to notify negotiation listeners asynchronously or null if listeners are notified synchronously.
+     */
+    @Nullable
+    public NegotiationEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Returns the policy for evicting negotiations that reached a final state.
+     */
+    public RetentionPolicy getRetentionPolicy() {
+        return retentionPolicy;
+    }
+
+    /**
+     * Returns the executor evicting and spilling negotiations, which keeps that work off the threads processing messages.
+     */
+    public Executor getEvictionExecutor() {
+        return evictionExecutor;
+    }
+
+    /**
+     * Returns the journal negotiations are recorded in or null if they are not journaled.
+     */
+    @Nullable
+    public NegotiationJournal getJournal() {
+        return journal;
+    }
+
+    private ConnectorConfiguration() {
+    }
+
+    public static class Builder {
+        private final ConnectorConfiguration configuration;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder lockFreeNegotiations(boolean lockFreeNegotiations) {
+            configuration.lockFreeNegotiations = lockFreeNegotiations;
+            return this;
+        }
+
+        public Builder eventBus(NegotiationEventBus eventBus) {
+            configuration.eventBus = eventBus;
+            return this;
+        }
+
+        public Builder retentionPolicy(RetentionPolicy retentionPolicy) {
+            configuration.retentionPolicy = retentionPolicy;
+            return this;
+        }
+
+        public Builder evictionExecutor(Executor evictionExecutor) {
+            configuration.evictionExecutor = evictionExecutor;
+            return this;
+        }
+
+        public Builder journal(NegotiationJournal journal) {
+            configuration.journal = journal;
+            return this;
+        }
+
+        public ConnectorConfiguration build() {
+            return configuration;
+        }
+
+        private Builder() {
+            configuration = new ConnectorConfiguration();
+        }
+    }
+}
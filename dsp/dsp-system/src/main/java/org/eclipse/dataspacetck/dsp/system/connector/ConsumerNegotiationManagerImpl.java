@@ -17,14 +17,16 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ConsumerNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractAgreementMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractOfferMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import java.util.Map;
 
+import static java.util.Objects.requireNonNull;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createNegotiationResponse;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
@@ -38,17 +40,22 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
     private Monitor monitor;
 
     public ConsumerNegotiationManagerImpl(Monitor monitor) {
+        this(monitor, ConnectorConfiguration.defaultConfiguration());
+    }
+
+    public ConsumerNegotiationManagerImpl(Monitor monitor, ConnectorConfiguration configuration) {
+        super(configuration);
         this.monitor = monitor;
     }
 
     @Override
     public ContractNegotiation createNegotiation(String datasetId, String offerId) {
-        var negotiation = ContractNegotiation.Builder.newInstance()
+        var negotiation = negotiationBuilder()
                 .datasetId(datasetId)
                 .offerId(offerId)
                 .build();
-        negotiations.put(negotiation.getId(), negotiation);
-        listeners.forEach(l -> l.contractInitialized(negotiation));
+        register(negotiation);
+        notifyListeners(negotiation, l -> l.contractInitialized(negotiation));
         return negotiation;
     }
 
@@ -56,7 +63,7 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
     public void contractRequested(String consumerId, String providerId) {
         var negotiation = getNegotiations().get(consumerId);
         negotiation.setCorrelationId(providerId, REQUESTED);
-        listeners.forEach(l -> l.contractRequested(negotiation));
+        notifyListeners(negotiation, l -> l.contractRequested(negotiation));
     }
 
     @Override
@@ -84,31 +91,31 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
     }
 
     @Override
-    public Map<String, Object> handleOffer(Map<String, Object> offer) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, offer); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        monitor.debug("Received provider offer: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, offer); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        var negotiation = findById(consumerId);
-        negotiation.storeOffer(offer, OFFERED, n -> listeners.forEach(l -> l.offered(negotiation)));
+    public Map<String, Object> handleOffer(ContractOfferMessage offer) {
+        monitor.debug("Received provider offer: " + offer.providerPid()); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+        var negotiation = findById(offer.consumerPid());
+        negotiation.storeOffer(offer.message(), OFFERED, n -> listeners.forEach(l -> l.offered(negotiation)));
         return createNegotiationResponse(negotiation.getCorrelationId(), negotiation.getId(), OFFERED.toString().toLowerCase());
     }
 
     @Override
-    public void handleAgreement(Map<String, Object> agreement) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, agreement); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        monitor.debug("Received provider agreement: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, agreement); // // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        var negotiation = findById(consumerId);
-        negotiation.storeAgreement(agreement, n -> listeners.forEach(l -> l.agreed(negotiation)));
+    public void handleAgreement(ContractAgreementMessage agreement) {
+        monitor.debug("Received provider agreement: " + agreement.providerPid()); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+        var negotiation = findById(agreement.consumerPid());
+        negotiation.storeAgreement(agreement.message(), n -> listeners.forEach(l -> l.agreed(negotiation)));
     }
 
     @Override
-    public void handleFinalized(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        monitor.debug("Received provider finalize: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, event); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+    public void handleFinalized(ContractNegotiationEventMessage event) {
+        monitor.debug("Received provider finalize: " + event.providerPid()); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+        var consumerId = requireNonNull(event.consumerPid(), "No value for: " + DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
         var negotiation = findById(consumerId);
         negotiation.transition(ContractNegotiation.State.FINALIZED, n -> listeners.forEach(l -> l.finalized(negotiation)));
     }
 
+    @Override
+    protected NegotiationJournal.Role journalRole() {
+        return NegotiationJournal.Role.CONSUMER;
+    }
+
 }
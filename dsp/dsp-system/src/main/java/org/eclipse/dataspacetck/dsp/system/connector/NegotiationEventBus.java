@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationEventDispatcher;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.isFinal;
+
+/**
+ * Delivers negotiation events to listeners asynchronously.
+ * <p>
+ * Each negotiation has its own bounded queue. The queue is drained by one task at a time, so events for a negotiation are
+ * delivered in the order they were published, while events for different negotiations are delivered concurrently. If a queue is
+ * full, the publisher blocks until space is available or the publish timeout elapses. Events published by a listener while it is
+ * being delivered an event of the same negotiation are queued without waiting, since only the listener's own thread could make
+ * space.
+ */
+public class NegotiationEventBus implements NegotiationEventDispatcher {
+    private final Executor executor;
+    private final Monitor monitor;
+    private final int capacity;
+    private final Duration publishTimeout;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    public NegotiationEventBus(Executor executor, Monitor monitor, int capacity, Duration publishTimeout) {
+        this.executor = executor;
+        this.monitor = monitor;
+        this.capacity = capacity;
+        this.publishTimeout = publishTimeout;
+    }
+
+    /**
+     * Queues the event for delivery after previously published events for the negotiation.
+     *
+     * @throws IllegalStateException if the negotiation's queue stays full for longer than the publish timeout
+     */
+    @Override
+    public void dispatch(ContractNegotiation negotiation, Runnable event) {
+        var channel = channels.computeIfAbsent(negotiation.getId(), id -> new Channel(negotiation));
+        if (channel.drainer == Thread.currentThread()) {
+            // published by a listener of this negotiation: waiting for space would wait for this thread to drain the queue
+            channel.queue.add(new QueuedEvent(event, false));
+        } else {
+            acquire(channel);
+            channel.queue.add(new QueuedEvent(event, true));
+        }
+        published.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(channel.queue.size(), Math::max);
+        channel.schedule();
+    }
+
+    private void acquire(Channel channel) {
+        if (channel.permits.tryAcquire()) {
+            return;
+        }
+        blocked.incrementAndGet();
+        var start = System.nanoTime();
+        try {
+            var acquired = channel.permits.tryAcquire(publishTimeout.toNanos(), NANOSECONDS);
+            blockedNanos.addAndGet(System.nanoTime() - start);
+            if (!acquired) {
+                throw new IllegalStateException("Timeout publishing event for negotiation: " + channel.negotiation.getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of events published.
+     */
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    /**
+     * Returns the number of events delivered, including events whose listeners failed.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Returns the number of publishes that had to wait for space in a full queue.
+     */
+    public long getBlockedCount() {
+        return blocked.get();
+    }
+
+    /**
+     * Returns a human-readable summary of the recorded metrics.
+     */
+    public String formatMetrics() {
+        return format("events published: %s, delivered: %s, failed: %s, queue depth: max %s of %s, blocked publishes: %s (%sms)",
+                published.get(), delivered.get(), failed.get(), maxQueueDepth.get(), capacity, blocked.get(), NANOSECONDS.toMillis(blockedNanos.get()));
+    }
+
+    /**
+     * An event and whether it holds one of the queue's capacity permits.
+     */
+    private record QueuedEvent(Runnable event, boolean permit) {
+    }
+
+    private class Channel implements Runnable {
+        private final ContractNegotiation negotiation;
+        private final Queue<QueuedEvent> queue = new ConcurrentLinkedQueue<>();
+        private final Semaphore permits = new Semaphore(capacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Thread drainer;
+
+        Channel(ContractNegotiation negotiation) {
+            this.negotiation = negotiation;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            drainer = Thread.currentThread();
+            QueuedEvent queued;
+            while ((queued = queue.poll()) != null) {
+                if (queued.permit()) {
+                    permits.release();
+                }
+                try {
+                    queued.event().run();
+                } catch (RuntimeException | AssertionError e) {
+                    failed.incrementAndGet();
+                    monitor.enableError().message(format("Negotiation listener failed for %s: %s", negotiation.getId(), e.getMessage())).resetMode();
+                }
+                delivered.incrementAndGet();
+            }
+            drainer = null;
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                // an event was published after the queue was drained but before the flag was cleared
+                schedule();
+            } else if (isFinal(negotiation.getState())) {
+                channels.remove(negotiation.getId(), this);
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.MAPPER;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.NegotiationTransitions.isFinal;
+
+/**
+ * An append-only journal of the negotiations held by TCK connectors.
+ * <p>
+ * The journal records when a negotiation is created and each transition, including offers and agreements stored by the
+ * transition. Entries are written as JSON lines. Appending only encodes the entry and queues it; queued entries are written by a
+ * background thread in batches at the flush interval (group commit), so appending does not wait for I/O. If sync is enabled, each
+ * batch is forced to the storage device.
+ * <p>
+ * {@link #read(Path)} and {@link #replay(Path, TckConnector)} can be used to analyze a journal after a run, for example one
+ * that crashed.
+ */
+public class NegotiationJournal implements AutoCloseable {
+    public static final String CREATED = "created";
+    public static final String TRANSITION = "transition";
+
+    private static final ObjectMapper JOURNAL_MAPPER = MAPPER.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Monitor monitor;
+    private final boolean sync;
+    private final ScheduledExecutorService flusher;
+    private final Queue<byte[]> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> journaledOffers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+
+    /**
+     * The role of the manager holding a negotiation.
+     */
+    public enum Role {
+        CONSUMER,
+        PROVIDER
+    }
+
+    /**
+     * A journal entry. Negotiation attributes are only recorded when the negotiation is created; offers and agreements only by the
+     * transition that stored them.
+     */
+    public record Entry(long sequence,
+                        long timestamp,
+                        Role role,
+                        String type,
+                        String id,
+                        ContractNegotiation.State state,
+                        @Nullable String correlationId,
+                        @Nullable Map<String, String> attributes,
+                        @Nullable Map<String, Object> offer,
+                        @Nullable Map<String, Object> agreement) {
+    }
+
+    /**
+     * Opens the journal, appending to the file if it exists.
+     *
+     * @param file          the journal file
+     * @param flushInterval the interval at which queued entries are written
+     * @param sync          true if written entries should be forced to the storage device
+     */
+    public NegotiationJournal(Path file, Duration flushInterval, boolean sync, Monitor monitor) {
+        try {
+            this.channel = FileChannel.open(file, CREATE, WRITE, APPEND);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open negotiation journal: " + file, e);
+        }
+        this.monitor = monitor;
+        this.sync = sync;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "negotiation-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, MILLISECONDS);
+    }
+
+    /**
+     * Records that a negotiation was created.
+     */
+    public void created(Role role, ContractNegotiation negotiation) {
+        var attributes = new HashMap<String, String>();
+        putIfNotNull(attributes, "offerId", negotiation.getOfferId());
+        putIfNotNull(attributes, "datasetId", negotiation.getDatasetId());
+        putIfNotNull(attributes, "counterPartyId", negotiation.getCounterPartyId());
+        putIfNotNull(attributes, "callbackAddress", negotiation.getCallbackAddress());
+        journaledOffers.put(negotiation.getId(), negotiation.getOffers().size());
+        append(role, CREATED, negotiation.getId(), negotiation.getState(), negotiation.getCorrelationId(), attributes, null, null);
+    }
+
+    /**
+     * Records a transition using the state, offers and agreement captured when it was applied, since the negotiation may have
+     * moved on by the time the transition is journaled.
+     */
+    public void transitioned(Role role, ContractNegotiation.TransitionEvent transition) {
+        var id = transition.negotiation().getId();
+        var state = transition.to();
+        Map<String, Object> offer = null;
+        if (transition.offerCount() > journaledOffers.getOrDefault(id, 0)) {
+            offer = transition.lastOffer();
+        }
+        if (isFinal(state)) {
+            journaledOffers.remove(id);
+        } else {
+            journaledOffers.put(id, transition.offerCount());
+        }
+        var agreement = state == AGREED ? transition.agreement() : null;
+        append(role, TRANSITION, id, state, transition.correlationId(), null, offer, agreement);
+    }
+
+    /**
+     * Writes queued entries.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            buffer.clear();
+            byte[] entry;
+            while ((entry = pending.poll()) != null) {
+                if (buffer.remaining() < entry.length) {
+                    if (buffer.position() > 0) {
+                        write();
+                    }
+                    if (buffer.capacity() < entry.length) {
+                        buffer = ByteBuffer.allocateDirect(entry.length);
+                    }
+                }
+                buffer.put(entry);
+            }
+            write();
+            if (sync) {
+                channel.force(false);
+            }
+            batches.incrementAndGet();
+        } catch (IOException e) {
+            monitor.enableError().message("Unable to write negotiation journal: " + e.getMessage()).resetMode();
+        }
+    }
+
+    /**
+     * Returns a human-readable summary of the recorded metrics.
+     */
+    public String formatMetrics() {
+        return format("journal entries: %s, batches: %s, bytes: %s", sequence.get(), batches.get(), bytes.get());
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            monitor.enableError().message("Unable to close negotiation journal: " + e.getMessage()).resetMode();
+        }
+    }
+
+    /**
+     * Reads the entries of a journal in the order they were recorded.
+     */
+    public static List<Entry> read(Path file) {
+        var entries = new ArrayList<Entry>();
+        try (var lines = Files.lines(file, UTF_8)) {
+            for (var line : (Iterable<String>) lines::iterator) {
+                if (!line.isBlank()) {
+                    entries.add(JOURNAL_MAPPER.readValue(line, Entry.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read negotiation journal: " + file, e);
+        }
+        entries.sort(Comparator.comparingLong(Entry::sequence));
+        return entries;
+    }
+
+    /**
+     * Rebuilds the negotiations recorded in the journal in the managers of the connector by replaying their transitions. The
+     * connector should not be journaled itself.
+     */
+    public static void replay(Path file, TckConnector connector) {
+        var negotiations = new HashMap<String, ContractNegotiation>();
+        for (var entry : read(file)) {
+            var manager = (AbstractNegotiationManager) (entry.role() == Role.CONSUMER ?
+                    connector.getConsumerNegotiationManager() : connector.getProviderNegotiationManager());
+            if (CREATED.equals(entry.type())) {
+                var negotiation = restore(manager, entry);
+                negotiations.put(negotiation.getId(), manager.register(negotiation));
+                continue;
+            }
+            var negotiation = negotiations.get(entry.id());
+            if (negotiation == null) {
+                throw new IllegalStateException("Journal entry " + entry.sequence() + " references unknown negotiation: " + entry.id());
+            }
+            if (negotiation.getCorrelationId() == null && entry.correlationId() != null) {
+                negotiation.setCorrelationId(entry.correlationId(), entry.state());
+            } else if (entry.offer() != null) {
+                negotiation.storeOffer(entry.offer(), entry.state(), n -> {
+                });
+            } else if (entry.agreement() != null) {
+                negotiation.storeAgreement(entry.agreement(), n -> {
+                });
+            } else {
+                negotiation.transition(entry.state());
+            }
+        }
+    }
+
+    private static ContractNegotiation restore(AbstractNegotiationManager manager, Entry entry) {
+        var attributes = entry.attributes() == null ? Map.<String, String>of() : entry.attributes();
+        var builder = manager.negotiationBuilder()
+                .id(entry.id())
+                .correlationId(entry.correlationId())
+                .offerId(attributes.get("offerId"))
+                .datasetId(attributes.get("datasetId"))
+                .counterPartyId(attributes.get("counterPartyId"))
+                .state(entry.state());
+        var callbackAddress = attributes.get("callbackAddress");
+        if (callbackAddress != null) {
+            builder.callbackAddress(callbackAddress);
+        }
+        return builder.build();
+    }
+
+    private void append(Role role,
+                        String type,
+                        String id,
+                        ContractNegotiation.State state,
+                        @Nullable String correlationId,
+                        @Nullable Map<String, String> attributes,
+                        @Nullable Map<String, Object> offer,
+                        @Nullable Map<String, Object> agreement) {
+        var entry = new Entry(sequence.incrementAndGet(), System.currentTimeMillis(), role, type, id, state, correlationId, attributes, offer, agreement);
+        try {
+            var json = JOURNAL_MAPPER.writeValueAsBytes(entry);
+            var line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            pending.add(line);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to journal negotiation: " + id, e);
+        }
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytes.addAndGet(channel.write(buffer));
+        }
+        buffer.clear();
+    }
+
+    private static void putIfNotNull(Map<String, String> map, String key, @Nullable String value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+}
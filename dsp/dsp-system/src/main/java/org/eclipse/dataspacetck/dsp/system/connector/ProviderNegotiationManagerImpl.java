@@ -16,6 +16,10 @@
 package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractAgreementVerificationMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationTerminationMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractRequestMessage;
 import org.eclipse.dataspacetck.dsp.system.api.metadata.DcpSpecBug;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
@@ -24,17 +28,8 @@ import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.dataspacetck.dsp.system.api.connector.IdGenerator.datasetIdFromOfferId;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_EVENT_TYPE_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_OFFER_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.compactStringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createNegotiationResponse;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.mapProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
@@ -48,6 +43,14 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
  */
 public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager implements ProviderNegotiationManager {
 
+    public ProviderNegotiationManagerImpl() {
+        this(ConnectorConfiguration.defaultConfiguration());
+    }
+
+    public ProviderNegotiationManagerImpl(ConnectorConfiguration configuration) {
+        super(configuration);
+    }
+
     @Override
     public void offered(String providerId) {
         var negotiation = negotiations.get(providerId);
@@ -67,77 +70,77 @@ public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager i
     }
 
     @Override
-    public Map<String, Object> handleContractRequest(Map<String, Object> contractRequest, String counterPartyId) {
+    public Map<String, Object> handleContractRequest(ContractRequestMessage contractRequest, String counterPartyId) {
         ContractNegotiation negotiation;
-        if (contractRequest.containsKey(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED)) {
-            // the message is a counter-offer
-            var processId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, contractRequest);
-            negotiation = handleCounterOffer(contractRequest, processId);
+        if (contractRequest.isCounterOffer()) {
+            negotiation = handleCounterOffer(contractRequest);
         } else {
-            // the message is an initial request
             negotiation = handleInitialRequest(contractRequest, counterPartyId);
         }
         return createNegotiationResponse(negotiation.getId(), negotiation.getCorrelationId(), negotiation.getState().toString().toLowerCase());
     }
 
     @Override
-    public void handleAccepted(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event); // // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        stringProperty(DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, event);
-        var negotiation = negotiations.get(providerId);
+    public void handleAccepted(ContractNegotiationEventMessage event) {
+        // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
+        requireNonNull(event.eventType(), "No value for: " + DSPACE_PROPERTY_EVENT_TYPE_EXPANDED);
+        var negotiation = negotiations.get(event.providerPid());
         negotiation.transition(ACCEPTED, n -> listeners.forEach(l -> l.agreed(negotiation)));
     }
 
     @Override
-    public void handleVerified(Map<String, Object> verification) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, verification); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
-        var negotiation = findById(providerId);
+    public void handleVerified(ContractAgreementVerificationMessage verification) {
+        var negotiation = findById(verification.providerPid()); // FIXME https://github.com/eclipse-dataspacetck/cvf/issues/92
         // TODO verify message
         negotiation.transition(VERIFIED, n -> listeners.forEach(l -> l.verified(n)));
     }
 
     @Override
-    public void terminated(Map<String, Object> termination) {
-        var processId = requireNonNull(stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, termination));
-        var negotiation = negotiations.get(processId);
+    public void terminated(ContractNegotiationTerminationMessage termination) {
+        var negotiation = negotiations.get(termination.providerPid());
         negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(n)));
     }
 
     @NotNull
-    private ContractNegotiation handleCounterOffer(Map<String, Object> contractRequest, String processId) {
-        var negotiation = findById(processId);
-        var offer = mapProperty(DSPACE_PROPERTY_OFFER_EXPANDED, contractRequest);
-        negotiation.storeOffer(offer, REQUESTED, n -> listeners.forEach(l -> l.contractRequested(negotiation)));
+    private ContractNegotiation handleCounterOffer(ContractRequestMessage contractRequest) {
+        var negotiation = findById(contractRequest.providerPid());
+        negotiation.storeOffer(contractRequest.offer(), REQUESTED, n -> listeners.forEach(l -> l.contractRequested(negotiation)));
         return negotiation;
     }
 
     @NotNull
-    private ContractNegotiation handleInitialRequest(Map<String, Object> contractRequest, String counterPartyId) {
+    private ContractNegotiation handleInitialRequest(ContractRequestMessage contractRequest, String counterPartyId) {
         @DcpSpecBug(section = "Json-LD context", description = "https://github.com/eclipse-dataspacetck/cvf/issues/92")
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, contractRequest);
+        var consumerId = contractRequest.consumerPid();
         var previousNegotiation = findByCorrelationId(consumerId);
         if (previousNegotiation != null) {
             return previousNegotiation;
         }
 
-        var offer = mapProperty(DSPACE_PROPERTY_OFFER_EXPANDED, contractRequest);
+        var offerId = contractRequest.offerId();
 
-        var offerId = compactStringProperty(ID, offer);
-        var callbackAddress = stringProperty(DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED, contractRequest);
-
-        var negotiation = ContractNegotiation.Builder.newInstance()
+        var negotiation = negotiationBuilder()
                 .correlationId(consumerId)
                 .offerId(offerId)
                 .datasetId(datasetIdFromOfferId(offerId))
                 .state(REQUESTED)
                 .counterPartyId(counterPartyId)
-                .callbackAddress(callbackAddress)
+                .callbackAddress(contractRequest.callbackAddress())
                 .build();
 
-        negotiations.put(negotiation.getId(), negotiation);
-        listeners.forEach(l -> l.contractRequested(negotiation));
+        var registered = register(negotiation);
+        if (registered != negotiation) {
+            // a concurrent request with the same consumer id was registered first
+            return registered;
+        }
+        notifyListeners(negotiation, l -> l.contractRequested(negotiation));
 
         return negotiation;
     }
 
+    @Override
+    protected NegotiationJournal.Role journalRole() {
+        return NegotiationJournal.Role.PROVIDER;
+    }
+
 }
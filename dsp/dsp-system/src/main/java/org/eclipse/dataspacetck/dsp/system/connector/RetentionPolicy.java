@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Determines how long a negotiation manager keeps negotiations that reached a final state.
+ * <p>
+ * Final negotiations are evicted once their time-to-live elapses or, oldest first, while the manager holds more than the maximum
+ * number of negotiations. Negotiations that are still in progress are never evicted. If a spill directory is set, evicted
+ * negotiations are written to it as JSON files named after the negotiation id.
+ */
+public class RetentionPolicy {
+    private int maxEntries = Integer.MAX_VALUE;
+    private Duration finalTtl;
+    private Path spillDirectory;
+
+    /**
+     * Returns a policy that retains all negotiations.
+     */
+    public static RetentionPolicy retainAll() {
+        return Builder.newInstance().build();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Returns how long negotiations are kept after reaching a final state or null if they are kept indefinitely.
+     */
+    @Nullable
+    public Duration getFinalTtl() {
+        return finalTtl;
+    }
+
+    /**
+     * Returns the directory evicted negotiations are written to or null if they are discarded.
+     */
+    @Nullable
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Returns true if negotiations may be evicted under this policy.
+     */
+    public boolean isBounded() {
+        return maxEntries < Integer.MAX_VALUE || finalTtl != null;
+    }
+
+    private RetentionPolicy() {
+    }
+
+    public static class Builder {
+        private final RetentionPolicy policy;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            policy.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder finalTtl(Duration finalTtl) {
+            policy.finalTtl = finalTtl;
+            return this;
+        }
+
+        public Builder spillDirectory(Path spillDirectory) {
+            policy.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        public RetentionPolicy build() {
+            if (policy.maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be positive: " + policy.maxEntries);
+            }
+            return policy;
+        }
+
+        private Builder() {
+            policy = new RetentionPolicy();
+        }
+    }
+}
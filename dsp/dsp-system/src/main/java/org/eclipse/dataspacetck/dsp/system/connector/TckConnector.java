@@ -20,12 +20,14 @@ import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ConsumerNegotiationManager;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
 
+import static java.lang.String.format;
+
 /**
  * Implements a simple, in-memory connector that supports control-plane operations for testing.
  */
 public class TckConnector implements Connector {
-    private ProviderNegotiationManager providerNegotiationManager;
-    private ConsumerNegotiationManager consumerNegotiationManager;
+    private ProviderNegotiationManagerImpl providerNegotiationManager;
+    private ConsumerNegotiationManagerImpl consumerNegotiationManager;
 
     public ProviderNegotiationManager getProviderNegotiationManager() {
         return providerNegotiationManager;
@@ -36,7 +38,18 @@ public class TckConnector implements Connector {
     }
 
     public TckConnector(Monitor monitor) {
-        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor);
-        providerNegotiationManager = new ProviderNegotiationManagerImpl();
+        this(monitor, ConnectorConfiguration.defaultConfiguration());
+    }
+
+    public TckConnector(Monitor monitor, ConnectorConfiguration configuration) {
+        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor, configuration);
+        providerNegotiationManager = new ProviderNegotiationManagerImpl(configuration);
+    }
+
+    /**
+     * Returns a summary of the negotiations held by the connector.
+     */
+    public String formatMetrics() {
+        return format("consumer %s; provider %s", consumerNegotiationManager.formatMetrics(), providerNegotiationManager.formatMetrics());
     }
 }
@@ -14,8 +14,10 @@
 
 package org.eclipse.dataspacetck.dsp.system.mock;
 
+import org.eclipse.dataspacetck.core.system.KeyedSerialExecutor;
 import org.eclipse.dataspacetck.dsp.system.api.mock.NegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayDeque;
 import java.util.Map;
@@ -30,6 +32,11 @@ import static org.mockito.internal.util.StringUtil.join;
 
 /**
  * Base negotiation mock functionality.
+ * <p>
+ * Actions are either shared by all negotiations, in which case they are executed in the order they were recorded by whichever
+ * negotiation triggers them, or bound to a negotiation by its id or correlation id. A negotiation with pending bound actions only
+ * executes those, which allows one mock to drive many concurrent negotiations deterministically. Bound actions are dropped once
+ * all of them have been executed.
  */
 public abstract class AbstractNegotiationMock implements NegotiationMock {
     protected Executor executor;
@@ -37,34 +44,94 @@ public abstract class AbstractNegotiationMock implements NegotiationMock {
 
     protected Map<ContractNegotiation.State, Queue<Action>> actions = new ConcurrentHashMap<>();
 
+    protected Map<String, Map<ContractNegotiation.State, Queue<Action>>> boundActions = new ConcurrentHashMap<>();
+
     public AbstractNegotiationMock(Executor executor) {
         this.executor = executor;
     }
 
     public void verify() {
-        if (!actions.isEmpty()) {
-            var actions = this.actions.entrySet().stream()
-                    .filter(e -> !e.getValue().isEmpty())
-                    .map(e -> e.getKey().toString())
-                    .collect(toList());
-            if (!actions.isEmpty()) {
-                throw new AssertionError(format("Request actions not executed.\n Actions: %s", join(", ", actions)));
-            }
-        }
+        verify(actions);
+        boundActions.forEach((key, script) -> verify(script));
     }
 
     @Override
     public boolean completed() {
-        return actions.isEmpty();
+        return isCompleted(actions) && boundActions.values().stream().allMatch(AbstractNegotiationMock::isCompleted);
     }
 
     @Override
     public void reset() {
         actions.clear();
+        boundActions.clear();
     }
 
     protected void recordAction(ContractNegotiation.State state, Action action) {
         actions.computeIfAbsent(state, k -> new ConcurrentLinkedQueue<>()).add(action);
     }
 
+    /**
+     * Records an action for the negotiation with the given id or correlation id.
+     */
+    protected void recordAction(String key, ContractNegotiation.State state, Action action) {
+        // recorded atomically with dropping a completed script so that the action is not lost
+        boundActions.compute(key, (k, script) -> {
+            var bound = script != null ? script : new ConcurrentHashMap<ContractNegotiation.State, Queue<Action>>();
+            bound.computeIfAbsent(state, s -> new ConcurrentLinkedQueue<>()).add(action);
+            return bound;
+        });
+    }
+
+    /**
+     * Executes the next action recorded for the state, preferring actions bound to the negotiation.
+     */
+    protected void execute(ContractNegotiation.State state, ContractNegotiation negotiation) {
+        var key = boundActions.isEmpty() ? null : findKey(negotiation);
+        var script = key != null ? boundActions.get(key) : null;
+        var action = (script != null ? script : actions).getOrDefault(state, EMPTY_QUEUE).poll();
+        if (script != null) {
+            boundActions.computeIfPresent(key, (k, bound) -> isCompleted(bound) ? null : bound);
+        }
+        if (action == null) {
+            return;
+        }
+        if (executor instanceof KeyedSerialExecutor keyed) {
+            // actions of a negotiation must run in the order their states were reached
+            keyed.execute(negotiation.getId(), () -> action.accept(negotiation));
+        } else {
+            executor.execute(() -> action.accept(negotiation));
+        }
+    }
+
+    protected void verifyBound(String key) {
+        verify(boundActions.getOrDefault(key, Map.of()));
+    }
+
+    protected boolean completedBound(String key) {
+        return isCompleted(boundActions.getOrDefault(key, Map.of()));
+    }
+
+    @Nullable
+    private String findKey(ContractNegotiation negotiation) {
+        if (boundActions.containsKey(negotiation.getId())) {
+            return negotiation.getId();
+        }
+        var correlationId = negotiation.getCorrelationId();
+        return correlationId != null && boundActions.containsKey(correlationId) ? correlationId : null;
+    }
+
+    private static void verify(Map<ContractNegotiation.State, Queue<Action>> script) {
+        var pending = script.entrySet().stream()
+                .filter(e -> !e.getValue().isEmpty())
+                .map(e -> e.getKey().toString())
+                .collect(toList());
+        if (!pending.isEmpty()) {
+            throw new AssertionError(format("Request actions not executed.\n Actions: %s", join(", ", pending)));
+        }
+    }
+
+    private static boolean isCompleted(Map<ContractNegotiation.State, Queue<Action>> script) {
+        return script.values().stream().allMatch(Queue::isEmpty);
+    }
+
 }
@@ -44,29 +44,27 @@ public class ConsumerNegotiationMockImpl extends AbstractNegotiationMock impleme
 
     @Override
     public void recordInitializedAction(BiConsumer<String, ContractNegotiation> action) {
-        recordAction(INITIALIZED, cn -> {
-            action.accept(baseAddress, cn);
-        });
+        recordAction(INITIALIZED, initializedAction(action));
     }
 
     @Override
     public void recordRequestAction(BiConsumer<String, ContractNegotiation> action) {
-        recordAction(REQUESTED, cn -> {
-            action.accept(baseAddress, cn);
-        });
+        recordAction(REQUESTED, requestAction(action));
     }
 
     @Override
     public void recordOfferedAction(BiConsumer<String, ContractNegotiation> action) {
-        recordAction(OFFERED, cn -> {
-            cn.transition(OFFERED);
-            action.accept(baseAddress, cn);
-        });
+        recordAction(OFFERED, offeredAction(action));
     }
 
     @Override
     public void recordAgreedAction(BiConsumer<String, ContractNegotiation> action) {
-        recordAction(AGREED, cn -> action.accept(baseAddress, cn));
+        recordAction(AGREED, agreedAction(action));
+    }
+
+    @Override
+    public ConsumerNegotiationMock forNegotiation(String key) {
+        return new BoundMock(key);
     }
 
     @Override
@@ -101,11 +99,81 @@ public class ConsumerNegotiationMockImpl extends AbstractNegotiationMock impleme
     }
 
     private void received(ContractNegotiation.State state, ContractNegotiation negotiation) {
-        var action = actions.getOrDefault(state, EMPTY_QUEUE).poll();
-        if (action == null) {
-            return;
+        execute(state, negotiation);
+    }
+
+    private Action initializedAction(BiConsumer<String, ContractNegotiation> action) {
+        return cn -> {
+            action.accept(baseAddress, cn);
+        };
+    }
+
+    private Action requestAction(BiConsumer<String, ContractNegotiation> action) {
+        return cn -> {
+            action.accept(baseAddress, cn);
+        };
+    }
+
+    private Action offeredAction(BiConsumer<String, ContractNegotiation> action) {
+        return cn -> {
+            cn.transition(OFFERED);
+            action.accept(baseAddress, cn);
+        };
+    }
+
+    private Action agreedAction(BiConsumer<String, ContractNegotiation> action) {
+        return cn -> action.accept(baseAddress, cn);
+    }
+
+    /**
+     * Records actions bound to a negotiation.
+     */
+    private class BoundMock implements ConsumerNegotiationMock {
+        private final String key;
+
+        BoundMock(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void recordInitializedAction(BiConsumer<String, ContractNegotiation> action) {
+            recordAction(key, INITIALIZED, initializedAction(action));
+        }
+
+        @Override
+        public void recordRequestAction(BiConsumer<String, ContractNegotiation> action) {
+            recordAction(key, REQUESTED, requestAction(action));
+        }
+
+        @Override
+        public void recordOfferedAction(BiConsumer<String, ContractNegotiation> action) {
+            recordAction(key, OFFERED, offeredAction(action));
+        }
+
+        @Override
+        public void recordAgreedAction(BiConsumer<String, ContractNegotiation> action) {
+            recordAction(key, AGREED, agreedAction(action));
+        }
+
+        @Override
+        public ConsumerNegotiationMock forNegotiation(String key) {
+            return ConsumerNegotiationMockImpl.this.forNegotiation(key);
+        }
+
+        @Override
+        public void verify() {
+            verifyBound(key);
+        }
+
+        @Override
+        public boolean completed() {
+            return completedBound(key);
+        }
+
+        @Override
+        public void reset() {
+            boundActions.remove(key);
         }
-        executor.execute(() -> action.accept(negotiation));
     }
 
 }
@@ -41,6 +41,11 @@ public class NoOpConsumerNegotiationMock implements ConsumerNegotiationMock {
     public void recordAgreedAction(BiConsumer<String, ContractNegotiation> action) {
     }
 
+    @Override
+    public ConsumerNegotiationMock forNegotiation(String key) {
+        return this;
+    }
+
     @Override
     public void verify() {
     }
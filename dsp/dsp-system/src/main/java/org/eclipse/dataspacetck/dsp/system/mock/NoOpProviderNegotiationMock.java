@@ -33,6 +33,11 @@ public class NoOpProviderNegotiationMock implements ProviderNegotiationMock {
     public void recordVerifiedAction(Action action) {
     }
 
+    @Override
+    public ProviderNegotiationMock forNegotiation(String key) {
+        return this;
+    }
+
     @Override
     public void verify() {
     }
@@ -53,6 +53,11 @@ public class ProviderNegotiationMockImpl extends AbstractNegotiationMock impleme
         recordAction(VERIFIED, action);
     }
 
+    @Override
+    public ProviderNegotiationMock forNegotiation(String key) {
+        return new BoundMock(key);
+    }
+
     public void verify() {
         super.verify();
         manager.deregisterListener(this);
@@ -60,29 +65,63 @@ public class ProviderNegotiationMockImpl extends AbstractNegotiationMock impleme
 
     @Override
     public void contractRequested(ContractNegotiation negotiation) {
-        var action = actions.getOrDefault(REQUESTED, EMPTY_QUEUE).poll();
-        if (action == null) {
-            return;
-        }
-        executor.execute(() -> action.accept(negotiation));
+        execute(REQUESTED, negotiation);
     }
 
     @Override
     public void agreed(ContractNegotiation negotiation) {
-        var action = actions.getOrDefault(ACCEPTED, EMPTY_QUEUE).poll();
-        if (action == null) {
-            return;
-        }
-        executor.execute(() -> action.accept(negotiation));
+        execute(ACCEPTED, negotiation);
     }
 
     @Override
     public void verified(ContractNegotiation negotiation) {
-        var action = actions.getOrDefault(VERIFIED, EMPTY_QUEUE).poll();
-        if (action == null) {
-            return;
+        execute(VERIFIED, negotiation);
+    }
+
+    /**
+     * Records actions bound to a negotiation.
+     */
+    private class BoundMock implements ProviderNegotiationMock {
+        private final String key;
+
+        BoundMock(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void recordContractRequestedAction(Action action) {
+            recordAction(key, REQUESTED, action);
+        }
+
+        @Override
+        public void recordAgreedAction(Action action) {
+            recordAction(key, ACCEPTED, action);
+        }
+
+        @Override
+        public void recordVerifiedAction(Action action) {
+            recordAction(key, VERIFIED, action);
+        }
+
+        @Override
+        public ProviderNegotiationMock forNegotiation(String key) {
+            return ProviderNegotiationMockImpl.this.forNegotiation(key);
+        }
+
+        @Override
+        public void verify() {
+            verifyBound(key);
+        }
+
+        @Override
+        public boolean completed() {
+            return completedBound(key);
+        }
+
+        @Override
+        public void reset() {
+            boundActions.remove(key);
         }
-        executor.execute(() -> action.accept(negotiation));
     }
 
 }
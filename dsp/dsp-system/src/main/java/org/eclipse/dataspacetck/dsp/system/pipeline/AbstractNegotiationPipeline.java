@@ -20,18 +20,32 @@ import org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.NegotiationPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Base negotiation pipeline functionality.
  */
 public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<P>> extends AbstractAsyncPipeline<P> {
-    protected ContractNegotiation providerNegotiation;
+    protected volatile ContractNegotiation providerNegotiation;
+    private final CompletableFuture<ContractNegotiation> negotiationAvailable = new CompletableFuture<>();
 
     public AbstractNegotiationPipeline(CallbackEndpoint endpoint, Monitor monitor, long waitTime) {
         super(endpoint, monitor, waitTime, MessageFunctions::createDspContext);
     }
 
+    /**
+     * Waits for the negotiation to transition to the state. The wait completes as soon as the transition happens.
+     */
     public P thenWaitForState(ContractNegotiation.State state) {
-        return thenWait("state to transition to " + state, () -> providerNegotiation != null && state == providerNegotiation.getState());
+        return thenAwait("state to transition to " + state, () -> negotiationAvailable.thenCompose(negotiation -> negotiation.onState(state)));
+    }
+
+    /**
+     * Sets the negotiation tracked by the pipeline, which may happen on another thread.
+     */
+    protected void setProviderNegotiation(ContractNegotiation negotiation) {
+        providerNegotiation = negotiation;
+        negotiationAvailable.complete(negotiation);
     }
 
 
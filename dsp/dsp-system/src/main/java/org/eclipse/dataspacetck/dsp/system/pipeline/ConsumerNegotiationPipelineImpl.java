@@ -24,11 +24,13 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.
 import org.eclipse.dataspacetck.dsp.system.client.ConsumerNegotiationClient;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
+import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
@@ -40,7 +42,6 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.c
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createFinalizedEvent;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createOffer;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.stringIdProperty;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Default Implementation.
@@ -75,7 +76,7 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
             providerConnector.getProviderNegotiationManager().registerListener(new NegotiationListener() {
                 @Override
                 public void contractRequested(ContractNegotiation negotiation) {
-                    ConsumerNegotiationPipelineImpl.this.providerNegotiation = negotiation;
+                    setProviderNegotiation(negotiation);
                     // Remove the listener
                     providerConnector.getProviderNegotiationManager().deregisterListener(this);
                 }
@@ -161,12 +162,16 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ConsumerNegotiationPipeline thenVerifyConsumerState(State state) {
         stages.add(() -> {
-            pause();
             var callbackAddress = providerNegotiation.getCallbackAddress();
             var processId = this.providerNegotiation.getCorrelationId();
-            var negotiation = negotiationClient.getNegotiation(processId, callbackAddress);
-            var actual = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiation);
-            assertEquals(DSPACE_NAMESPACE + state.toString(), actual);
+            var expected = DSPACE_NAMESPACE + state.toString();
+            var result = createPoller(Duration.ofSeconds(waitTime), false)
+                    .poll(() -> stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiationClient.getNegotiation(processId, callbackAddress)), expected::equals);
+            if (!result.converged()) {
+                throw new AssertionError(format("Timeout waiting for consumer state %s, last reported state was %s after %s",
+                        expected, result.value(), result.describe()));
+            }
+            monitor.debug("Consumer reported state " + expected + " after " + result.describe());
         });
         return this;
     }
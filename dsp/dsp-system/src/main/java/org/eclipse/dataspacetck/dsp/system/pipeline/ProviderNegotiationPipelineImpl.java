@@ -23,11 +23,17 @@ import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State;
 import org.eclipse.dataspacetck.dsp.system.client.ProviderNegotiationClient;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.processJsonLd;
 import static org.eclipse.dataspacetck.core.api.message.MessageSerializer.serialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
@@ -52,10 +58,13 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
     private static final String NEGOTIATIONS_AGREEMENT_PATH = "/negotiations/[^/]+/agreement";
     private static final String NEGOTIATIONS_TERMINATION_PATH = "/negotiations/[^/]+/termination/";
     private static final String NEGOTIATION_EVENT_PATH = "/negotiations/[^/]+/events";
+    private static final Duration SETTLE_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration POLL_SETTLE_TIMEOUT = Duration.ofMillis(100);
 
     private Connector consumerConnector;
     private String providerConnectorId;
     private ProviderNegotiationClient negotiationClient;
+    private volatile boolean providerStateUnavailable;
 
     public ProviderNegotiationPipelineImpl(ProviderNegotiationClient negotiationClient,
                                            CallbackEndpoint endpoint,
@@ -67,13 +76,18 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
         this.negotiationClient = negotiationClient;
         this.consumerConnector = connector;
         this.providerConnectorId = providerConnectorId;
-        this.monitor = monitor;
     }
 
     @SuppressWarnings("unused")
     public ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId) {
+        return sendRequestMessage(datasetId, offerId, negotiation -> {
+        });
+    }
+
+    public ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId, Consumer<ContractNegotiation> initializer) {
         stages.add(() -> {
-            providerNegotiation = consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId);
+            setProviderNegotiation(consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId));
+            initializer.accept(providerNegotiation);
 
             var contractRequest = createContractRequest(providerNegotiation.getId(), offerId, datasetId, endpoint.getAddress());
 
@@ -117,7 +131,7 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ProviderNegotiationPipeline sendTermination(boolean expectError) {
         stages.add(() -> {
-            pause();
+            awaitProviderSettled();
             var providerId = providerNegotiation.getCorrelationId();
             var consumerId = providerNegotiation.getId();
             var termination = createTermination(providerId, consumerId, "1");
@@ -148,7 +162,7 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ProviderNegotiationPipeline sendVerifiedEvent(boolean expectError) {
         stages.add(() -> {
-            pause();
+            awaitProviderSettled();
             var providerId = providerNegotiation.getCorrelationId();
             var consumerId = providerNegotiation.getId();
             monitor.debug("Sending verification: " + providerId);
@@ -198,13 +212,58 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
 
     public ProviderNegotiationPipeline thenVerifyProviderState(State state) {
         stages.add(() -> {
-            pause();
-            var providerNegotiation = negotiationClient.getNegotiation(this.providerNegotiation.getCorrelationId());
-            var actual = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, providerNegotiation);
-            assertEquals(DSPACE_NAMESPACE + state.toString(), actual);
+            var expected = DSPACE_NAMESPACE + state.toString();
+            var result = createPoller(Duration.ofSeconds(waitTime), false).poll(this::getProviderState, expected::equals);
+            if (!result.converged()) {
+                throw new AssertionError(format("Timeout waiting for provider state %s, last reported state was %s after %s",
+                        expected, result.value(), result.describe()));
+            }
+            monitor.debug("Provider reported state " + expected + " after " + result.describe());
         });
         return this;
     }
 
+    /**
+     * Waits until the provider has reached the state of the local negotiation so that the next message is not received before the
+     * provider has completed its previous transition. An in-process provider is awaited through its transition events; otherwise
+     * the provider is polled for a short time. Continues if the state is not reached, since the provider may not report it, for
+     * example if it rejected the previous message. Once the state request fails, later steps no longer poll.
+     */
+    private void awaitProviderSettled() {
+        var state = providerNegotiation.getState();
+        var transitioned = negotiationClient.onState(providerNegotiation.getCorrelationId(), state);
+        if (transitioned != null) {
+            awaitTransition(transitioned, state);
+            return;
+        }
+        if (providerStateUnavailable) {
+            return;
+        }
+        var expected = DSPACE_NAMESPACE + state.toString();
+        var result = createPoller(POLL_SETTLE_TIMEOUT, true).poll(this::getProviderState, expected::equals);
+        if (!result.converged()) {
+            providerStateUnavailable = result.error() != null;
+            monitor.message("Provider did not report state " + expected + ", continuing after " + result.describe());
+        }
+    }
+
+    private void awaitTransition(CompletableFuture<State> transitioned, State state) {
+        try {
+            transitioned.get(SETTLE_TIMEOUT.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            transitioned.cancel(false);
+            monitor.message(format("Provider did not reach state %s within %sms, continuing", state, SETTLE_TIMEOUT.toMillis()));
+        } catch (ExecutionException e) {
+            monitor.message(format("Provider did not reach state %s, continuing: %s", state, e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String getProviderState() {
+        var negotiation = negotiationClient.getNegotiation(providerNegotiation.getCorrelationId());
+        return stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, negotiation);
+    }
 
 }
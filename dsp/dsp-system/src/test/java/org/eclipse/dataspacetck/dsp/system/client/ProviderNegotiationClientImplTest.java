@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.client;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.http.ConnectorHttpClient;
+import org.eclipse.dataspacetck.dsp.system.api.http.StubHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.http.StubHttpServer.unusedUrl;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createTermination;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageFunctions.createVerification;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+import static org.mockito.Mockito.mock;
+
+class ProviderNegotiationClientImplTest {
+    private StubHttpServer server;
+    private ConnectorHttpClient httpClient;
+    private ProviderNegotiationClientImpl client;
+
+    @Test
+    void verifyTerminateAsync() {
+        client.terminateAsync(createTermination("provider1", "consumer1", "1"), false).join();
+
+        assertThat(server.path()).isEqualTo("/negotiations/provider1/termination");
+    }
+
+    @Test
+    void verifyTerminateAsyncExpectedError() {
+        server.status(400);
+
+        client.terminateAsync(createTermination("provider1", "consumer1", "1"), true).join();
+    }
+
+    @Test
+    void verifyTerminateAsyncErrorNotRaised() {
+        var future = client.terminateAsync(createTermination("provider1", "consumer1", "1"), true);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void verifyVerifyAsyncUnexpectedStatus() {
+        server.status(500);
+        var future = client.verifyAsync(createVerification("provider1", "consumer1"), false);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+        assertThat(server.path()).isEqualTo("/negotiations/provider1/agreement/verification");
+    }
+
+    @Test
+    void verifyConnectionFailure() throws IOException {
+        var unreachable = new ProviderNegotiationClientImpl(unusedUrl(), httpClient, mock(Monitor.class));
+        var future = unreachable.terminateAsync(createTermination("provider1", "consumer1", "1"), false);
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyRemoteStateOnlyPolled() {
+        assertThat(client.onState("provider1", OFFERED)).isNull();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = StubHttpServer.start();
+        httpClient = ConnectorHttpClient.Builder.newInstance().build();
+        client = new ProviderNegotiationClientImpl(server.baseUrl(), httpClient, mock(Monitor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        server.close();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class NegotiationEventBusTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ContractNegotiation negotiation = ContractNegotiation.Builder.newInstance()
+            .id(randomUUID().toString())
+            .datasetId("dataset")
+            .offerId("offer")
+            .build();
+
+    @Test
+    void verifyReentrantDispatchWhenQueueFull() {
+        var bus = new NegotiationEventBus(executor, mock(Monitor.class), 1, Duration.ofMillis(100));
+        var delivered = new CopyOnWriteArrayList<String>();
+
+        bus.dispatch(negotiation, () -> {
+            delivered.add("first");
+            bus.dispatch(negotiation, () -> delivered.add("second"));
+            bus.dispatch(negotiation, () -> delivered.add("third"));
+        });
+
+        await().atMost(5, SECONDS).until(() -> bus.getDeliveredCount() == 3);
+        assertThat(delivered).isEqualTo(List.of("first", "second", "third"));
+        assertThat(bus.getBlockedCount()).isZero();
+    }
+
+    @Test
+    void verifyPublisherTimesOutWhenQueueFull() throws InterruptedException {
+        var bus = new NegotiationEventBus(executor, mock(Monitor.class), 1, Duration.ofMillis(100));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        bus.dispatch(negotiation, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, SECONDS)).isTrue();
+        bus.dispatch(negotiation, () -> { });
+
+        assertThatThrownBy(() -> bus.dispatch(negotiation, () -> { })).isInstanceOf(IllegalStateException.class);
+        release.countDown();
+        await().atMost(5, SECONDS).until(() -> bus.getDeliveredCount() == 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractAgreementMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractNegotiationEventMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.ContractOfferMessage;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
+import static org.eclipse.dataspacetck.dsp.system.connector.NegotiationJournal.CREATED;
+import static org.eclipse.dataspacetck.dsp.system.connector.NegotiationJournal.Role.CONSUMER;
+import static org.eclipse.dataspacetck.dsp.system.connector.NegotiationJournal.TRANSITION;
+import static org.mockito.Mockito.mock;
+
+class NegotiationJournalTest {
+    private static final Map<String, Object> OFFER = Map.of("@id", "offer1");
+    private static final Map<String, Object> AGREEMENT = Map.of("@id", "agreement1");
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private NegotiationJournal journal;
+
+    @Test
+    void verifyAppendFlushRead() {
+        var id = runNegotiation();
+        journal.flush();
+
+        var entries = NegotiationJournal.read(file);
+
+        assertThat(entries.stream().map(NegotiationJournal.Entry::type).toList())
+                .containsExactly(CREATED, TRANSITION, TRANSITION, TRANSITION, TRANSITION, TRANSITION, TRANSITION);
+        assertThat(entries.stream().map(NegotiationJournal.Entry::state).toList())
+                .containsExactly(INITIALIZED, REQUESTED, OFFERED, ACCEPTED, AGREED, VERIFIED, FINALIZED);
+        assertThat(entries.stream().allMatch(entry -> entry.id().equals(id))).isTrue();
+        assertThat(entries.get(0).attributes()).containsEntry("offerId", "offer1");
+        assertThat(entries.get(1).correlationId()).isEqualTo("provider1");
+        assertThat(entries.get(2).offer()).isEqualTo(OFFER);
+        assertThat(entries.get(4).agreement()).isEqualTo(AGREEMENT);
+        assertThat(entries.get(5).offer()).isNull();
+    }
+
+    @Test
+    void verifyNothingWrittenBeforeFlush() {
+        runNegotiation();
+
+        assertThat(NegotiationJournal.read(file)).isEmpty();
+    }
+
+    @Test
+    void verifyReplay() {
+        var id = runNegotiation();
+        journal.close();
+
+        var connector = new TckConnector(mock(Monitor.class));
+        NegotiationJournal.replay(file, connector);
+
+        var negotiation = connector.getConsumerNegotiationManager().findById(id);
+        assertThat(negotiation.getState()).isEqualTo(FINALIZED);
+        assertThat(negotiation.getCorrelationId()).isEqualTo("provider1");
+        assertThat(negotiation.getOffers()).containsExactly(OFFER);
+        assertThat(negotiation.getAgreement()).isEqualTo(AGREEMENT);
+        assertThat(connector.getConsumerNegotiationManager().findByCorrelationId("provider1")).isSameAs(negotiation);
+    }
+
+    @Test
+    void verifyTransitionCapturedWhenApplied() {
+        var events = new ArrayList<Runnable>();
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .dispatcher((n, event) -> events.add(event))
+                .transitionListener(transition -> journal.transitioned(CONSUMER, transition))
+                .build();
+        negotiation.setCorrelationId("provider1", REQUESTED);
+        negotiation.transition(TERMINATED);
+
+        // the listeners run after both transitions have been applied
+        events.forEach(Runnable::run);
+        journal.flush();
+
+        assertThat(NegotiationJournal.read(file).stream().map(NegotiationJournal.Entry::state).toList())
+                .containsExactly(REQUESTED, TERMINATED);
+    }
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("journal.jsonl");
+        journal = new NegotiationJournal(file, Duration.ofHours(1), false, mock(Monitor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    private String runNegotiation() {
+        var configuration = ConnectorConfiguration.Builder.newInstance().journal(journal).build();
+        var manager = new TckConnector(mock(Monitor.class), configuration).getConsumerNegotiationManager();
+        var id = manager.createNegotiation("dataset1", "offer1").getId();
+        manager.contractRequested(id, "provider1");
+        manager.handleOffer(new ContractOfferMessage("provider1", id, OFFER));
+        manager.accepted(id);
+        manager.handleAgreement(new ContractAgreementMessage("provider1", id, AGREEMENT));
+        manager.verified(id);
+        manager.handleFinalized(new ContractNegotiationEventMessage("provider1", id, "FINALIZED"));
+        return id;
+    }
+}
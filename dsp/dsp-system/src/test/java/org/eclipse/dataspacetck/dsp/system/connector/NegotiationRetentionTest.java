@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class NegotiationRetentionTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void verifyOldestFinalEvictedAboveMaxEntries() {
+        var manager = createManager(RetentionPolicy.Builder.newInstance().maxEntries(2).build(), DIRECT);
+        var first = manager.createNegotiation("dataset", "offer").getId();
+        var second = manager.createNegotiation("dataset", "offer").getId();
+        manager.terminated(first);
+
+        var third = manager.createNegotiation("dataset", "offer").getId();
+
+        assertThat(manager.getNegotiations()).doesNotContainKey(first);
+        assertThat(manager.getNegotiations()).containsKey(second);
+        assertThat(manager.getNegotiations()).containsKey(third);
+    }
+
+    @Test
+    void verifyInProgressNotEvicted() {
+        var manager = createManager(RetentionPolicy.Builder.newInstance().maxEntries(1).build(), DIRECT);
+        manager.createNegotiation("dataset", "offer");
+        manager.createNegotiation("dataset", "offer");
+
+        assertThat(manager.getNegotiations()).hasSize(2);
+    }
+
+    @Test
+    void verifyFinalEvictedAfterTtl() {
+        var manager = createManager(RetentionPolicy.Builder.newInstance().finalTtl(Duration.ofMillis(100)).build(), ForkJoinPool.commonPool());
+        var id = manager.createNegotiation("dataset", "offer").getId();
+        manager.terminated(id);
+
+        assertThat(manager.getNegotiations()).containsKey(id);
+        await().atMost(5, SECONDS).until(() -> !manager.getNegotiations().containsKey(id));
+    }
+
+    @Test
+    void verifyEvictionRunsOnExecutor() {
+        var tasks = new ArrayList<Runnable>();
+        var manager = createManager(RetentionPolicy.Builder.newInstance().maxEntries(1).build(), tasks::add);
+        var first = manager.createNegotiation("dataset", "offer").getId();
+        manager.terminated(first);
+        manager.createNegotiation("dataset", "offer");
+
+        assertThat(manager.getNegotiations()).containsKey(first);
+
+        runAll(tasks);
+        assertThat(manager.getNegotiations()).doesNotContainKey(first);
+    }
+
+    @Test
+    void verifySpilled(@TempDir Path spillDirectory) throws IOException {
+        var policy = RetentionPolicy.Builder.newInstance().maxEntries(1).spillDirectory(spillDirectory).build();
+        var manager = createManager(policy, DIRECT);
+        var first = manager.createNegotiation("dataset", "offer").getId();
+        manager.terminated(first);
+        manager.createNegotiation("dataset", "offer");
+
+        var spillFile = spillDirectory.resolve(first + ".json");
+        assertThat(Files.exists(spillFile)).isTrue();
+        assertThat(Files.readString(spillFile)).contains("TERMINATED");
+        assertThat(manager.formatMetrics()).contains("spilled: 1");
+    }
+
+    @Test
+    void verifySpillFailureRetainsNegotiation(@TempDir Path directory) {
+        var policy = RetentionPolicy.Builder.newInstance().maxEntries(1).spillDirectory(directory.resolve("missing")).build();
+        var manager = createManager(policy, DIRECT);
+        var first = manager.createNegotiation("dataset", "offer").getId();
+        manager.terminated(first);
+        manager.createNegotiation("dataset", "offer");
+
+        assertThat(manager.getNegotiations()).containsKey(first);
+        assertThat(manager.formatMetrics()).contains("spill failures: 1");
+    }
+
+    private ConsumerNegotiationManagerImpl createManager(RetentionPolicy policy, Executor evictionExecutor) {
+        var configuration = ConnectorConfiguration.Builder.newInstance()
+                .retentionPolicy(policy)
+                .evictionExecutor(evictionExecutor)
+                .build();
+        return new ConsumerNegotiationManagerImpl(mock(Monitor.class), configuration);
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
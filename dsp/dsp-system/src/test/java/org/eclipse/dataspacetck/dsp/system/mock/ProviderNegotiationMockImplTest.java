@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.mock;
+
+import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.mockito.Mockito.mock;
+
+class ProviderNegotiationMockImplTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void verifyInterleavedNegotiationsExecuteBoundActions() {
+        var mock = new ProviderNegotiationMockImpl(mock(ProviderNegotiationManager.class), DIRECT);
+        var executed = new CopyOnWriteArrayList<String>();
+        var first = createNegotiation("consumer1");
+        var second = createNegotiation("consumer2");
+
+        var firstMock = mock.forNegotiation("consumer1");
+        firstMock.recordContractRequestedAction(n -> executed.add("requested1:" + n.getId()));
+        firstMock.recordAgreedAction(n -> executed.add("agreed1:" + n.getId()));
+        var secondMock = mock.forNegotiation("consumer2");
+        secondMock.recordContractRequestedAction(n -> executed.add("requested2:" + n.getId()));
+        secondMock.recordAgreedAction(n -> executed.add("agreed2:" + n.getId()));
+
+        mock.contractRequested(second);
+        mock.contractRequested(first);
+        assertThat(secondMock.completed()).isFalse();
+        mock.agreed(second);
+        assertThat(secondMock.completed()).isTrue();
+        assertThat(firstMock.completed()).isFalse();
+        mock.agreed(first);
+
+        assertThat(executed).isEqualTo(List.of(
+                "requested2:" + second.getId(),
+                "requested1:" + first.getId(),
+                "agreed2:" + second.getId(),
+                "agreed1:" + first.getId()));
+        assertThat(mock.completed()).isTrue();
+        mock.verify();
+    }
+
+    @Test
+    void verifyCompletedScriptDropped() {
+        var mock = new ProviderNegotiationMockImpl(mock(ProviderNegotiationManager.class), DIRECT);
+        var executed = new CopyOnWriteArrayList<String>();
+        mock.forNegotiation("consumer1").recordContractRequestedAction(n -> executed.add("bound"));
+        mock.recordContractRequestedAction(n -> executed.add("shared"));
+
+        mock.contractRequested(createNegotiation("consumer1"));
+
+        assertThat(mock.boundActions).isEmpty();
+
+        // once its script is dropped, the negotiation falls back to the shared actions
+        mock.contractRequested(createNegotiation("consumer1"));
+        assertThat(executed).isEqualTo(List.of("bound", "shared"));
+    }
+
+    @Test
+    void verifyPendingBoundActionsFailVerification() {
+        var mock = new ProviderNegotiationMockImpl(mock(ProviderNegotiationManager.class), DIRECT);
+        var bound = mock.forNegotiation("consumer1");
+        bound.recordContractRequestedAction(n -> {
+        });
+        bound.recordVerifiedAction(n -> {
+        });
+
+        mock.contractRequested(createNegotiation("consumer1"));
+
+        assertThat(mock.boundActions).containsOnlyKeys("consumer1");
+        assertThatThrownBy(bound::verify).isInstanceOf(AssertionError.class);
+    }
+
+    private static ContractNegotiation createNegotiation(String consumerId) {
+        return ContractNegotiation.Builder.newInstance()
+                .correlationId(consumerId)
+                .offerId("offer")
+                .datasetId("dataset")
+                .state(REQUESTED)
+                .build();
+    }
+}
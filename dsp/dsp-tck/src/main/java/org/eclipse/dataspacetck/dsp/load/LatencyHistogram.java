@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * A log-linear histogram of latencies in nanoseconds with the bucket layout and compressed encoding of HdrHistogram, so that
+ * encoded histograms can be read by HdrHistogram tools.
+ * <p>
+ * Values are recorded with a fixed number of significant decimal digits: buckets double in size, and each bucket is divided into
+ * linear sub-buckets. The histogram is not thread-safe; threads record into separate instances that are merged with
+ * {@link #add(LatencyHistogram)}.
+ */
+public class LatencyHistogram {
+    private static final int ENCODING_COOKIE = 0x1c849303 | 0x10;
+    private static final int COMPRESSED_ENCODING_COOKIE = 0x1c849304 | 0x10;
+    private static final int ENCODING_HEADER_SIZE = 40;
+
+    private final long lowestDiscernibleValue;
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final int unitMagnitude;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final int subBucketCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Creates the histogram.
+     *
+     * @param lowestDiscernibleValue the smallest value distinguished from 0, at least 1
+     * @param highestTrackableValue  the largest value that can be recorded, at least twice the lowest discernible value
+     * @param significantDigits      the number of significant decimal digits kept for each value, between 0 and 5
+     */
+    public LatencyHistogram(long lowestDiscernibleValue, long highestTrackableValue, int significantDigits) {
+        if (lowestDiscernibleValue < 1 || highestTrackableValue < 2 * lowestDiscernibleValue) {
+            throw new IllegalArgumentException("Invalid value range: " + lowestDiscernibleValue + " - " + highestTrackableValue);
+        }
+        if (significantDigits < 0 || significantDigits > 5) {
+            throw new IllegalArgumentException("Significant digits must be between 0 and 5: " + significantDigits);
+        }
+        this.lowestDiscernibleValue = lowestDiscernibleValue;
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+        var largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        var subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        unitMagnitude = 63 - Long.numberOfLeadingZeros(lowestDiscernibleValue);
+        subBucketHalfCountMagnitude = Math.max(subBucketCountMagnitude, 1) - 1;
+        subBucketCount = 1 << (subBucketHalfCountMagnitude + 1);
+        subBucketHalfCount = subBucketCount / 2;
+        subBucketMask = ((long) subBucketCount - 1) << unitMagnitude;
+        leadingZeroCountBase = 64 - unitMagnitude - subBucketHalfCountMagnitude - 1;
+        counts = new long[(bucketsNeeded() + 1) * subBucketHalfCount];
+    }
+
+    /**
+     * Records a value. Values above the highest trackable value are recorded as the highest trackable value.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        var trackable = Math.min(value, highestTrackableValue);
+        counts[countsIndex(trackable)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, trackable);
+    }
+
+    /**
+     * Records a value measured by a closed-loop client that waits for each response before sending the next request at the expected
+     * interval. A value exceeding the interval means requests were not sent while waiting, so the latencies those requests would have
+     * seen are recorded as well, correcting for coordinated omission. Open-loop clients measuring from the intended send time record
+     * values with {@link #record(long)}.
+     */
+    public void recordCorrected(long value, long expectedInterval) {
+        record(value);
+        if (expectedInterval <= 0) {
+            return;
+        }
+        for (var missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+            record(missing);
+        }
+    }
+
+    /**
+     * Adds the counts of another histogram with the same layout.
+     */
+    public void add(LatencyHistogram other) {
+        if (other.counts.length != counts.length || other.unitMagnitude != unitMagnitude || other.subBucketCount != subBucketCount) {
+            throw new IllegalArgumentException("Histograms have different layouts");
+        }
+        for (var i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest recorded value, rounded up to the highest value equivalent at the histogram resolution.
+     */
+    public long getMaxValue() {
+        return maxValue == 0 ? 0 : highestEquivalentValue(maxValue);
+    }
+
+    /**
+     * Returns the value at or below which the given percentage of recorded values fall, at the histogram resolution.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        var requested = Math.min(Math.max(percentile, 0), 100);
+        var countAtPercentile = Math.max((long) (requested / 100 * totalCount + 0.5), 1);
+        long cumulative = 0;
+        for (var i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= countAtPercentile) {
+                var value = valueFromIndex(i);
+                return requested == 0 ? value : highestEquivalentValue(value);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the histogram in the compressed V2 encoding of HdrHistogram.
+     */
+    public byte[] encodeCompressed() {
+        var length = maxValue == 0 ? 0 : countsIndex(maxValue) + 1;
+        // zig-zag LEB128 needs at most 9 bytes per count
+        var payload = ByteBuffer.allocate(ENCODING_HEADER_SIZE + 9 * length);
+        payload.putInt(ENCODING_COOKIE);
+        payload.putInt(0);
+        payload.putInt(0);
+        payload.putInt(significantDigits);
+        payload.putLong(lowestDiscernibleValue);
+        payload.putLong(highestTrackableValue);
+        payload.putDouble(1.0);
+        var index = 0;
+        while (index < length) {
+            var count = counts[index++];
+            if (count == 0) {
+                // runs of zero counts are encoded as their negative length
+                var zeros = 1;
+                while (index < length && counts[index] == 0) {
+                    zeros++;
+                    index++;
+                }
+                putZigZag(payload, zeros > 1 ? -zeros : 0);
+            } else {
+                putZigZag(payload, count);
+            }
+        }
+        payload.putInt(4, payload.position() - ENCODING_HEADER_SIZE);
+
+        var deflater = new Deflater();
+        deflater.setInput(payload.array(), 0, payload.position());
+        deflater.finish();
+        var compressed = new ByteArrayOutputStream();
+        var chunk = new byte[4096];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        return ByteBuffer.allocate(8 + compressed.size())
+                .putInt(COMPRESSED_ENCODING_COOKIE)
+                .putInt(compressed.size())
+                .put(compressed.toByteArray())
+                .array();
+    }
+
+    private int bucketsNeeded() {
+        var smallestUntrackableValue = (long) subBucketCount << unitMagnitude;
+        var buckets = 1;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+                return buckets + 1;
+            }
+            smallestUntrackableValue <<= 1;
+            buckets++;
+        }
+        return buckets;
+    }
+
+    private int countsIndex(long value) {
+        var bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        var subBucketIndex = (int) (value >>> (bucketIndex + unitMagnitude));
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + subBucketIndex - subBucketHalfCount;
+    }
+
+    private long valueFromIndex(int index) {
+        var bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        var subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << (bucketIndex + unitMagnitude);
+    }
+
+    private long highestEquivalentValue(long value) {
+        var bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        var subBucketIndex = (int) (value >>> (bucketIndex + unitMagnitude));
+        var lowest = (long) subBucketIndex << (bucketIndex + unitMagnitude);
+        var range = 1L << (unitMagnitude + (subBucketIndex >= subBucketCount ? bucketIndex + 1 : bucketIndex));
+        return lowest + range - 1;
+    }
+
+    private static void putZigZag(ByteBuffer buffer, long value) {
+        var encoded = (value << 1) ^ (value >> 63);
+        // up to 8 groups of 7 bits, the ninth byte holds the remaining 8 bits
+        for (var i = 0; i < 8; i++) {
+            if ((encoded >>> 7) == 0) {
+                buffer.put((byte) encoded);
+                return;
+            }
+            buffer.put((byte) ((encoded & 0x7F) | 0x80));
+            encoded >>>= 7;
+        }
+        buffer.put((byte) encoded);
+    }
+}
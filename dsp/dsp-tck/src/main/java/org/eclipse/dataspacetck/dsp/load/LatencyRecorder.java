@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records the latencies and errors of the steps of concurrently executed negotiations.
+ * <p>
+ * Latencies are recorded in log-linear histograms. To avoid contention between threads, each thread records into one of several
+ * stripes, which are merged when a report is created.
+ */
+public class LatencyRecorder {
+    public static final String NEGOTIATION = "Negotiation";
+    private static final int MAX_ERROR_MESSAGES = 10;
+    private static final long LOWEST_DISCERNIBLE_VALUE = 1_000;
+    private static final long HIGHEST_TRACKABLE_VALUE = Duration.ofHours(1).toNanos();
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final Stripe[] stripes;
+    private final Set<String> names = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Map<String, Errors> errors = new ConcurrentHashMap<>();
+
+    public LatencyRecorder() {
+        stripes = new Stripe[Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1))];
+        for (var i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        // reserve the first position in the report for the negotiation totals
+        names.add(NEGOTIATION);
+    }
+
+    /**
+     * Starts timing a negotiation that was scheduled to start at the given time, as returned by {@link System#nanoTime()}. The
+     * negotiation and its first step are measured from the scheduled time, so delays in starting the negotiation are included.
+     */
+    public StepTimer startNegotiation(long intendedStart) {
+        return new StepTimer(this, intendedStart);
+    }
+
+    public void record(String step, long nanos) {
+        names.add(step);
+        stripes[(int) (Thread.currentThread().getId() & (stripes.length - 1))].record(step, nanos);
+    }
+
+    public void recordError(String step, Throwable error) {
+        names.add(step);
+        errors.computeIfAbsent(step, k -> new Errors()).record(error);
+    }
+
+    /**
+     * Returns the merged histogram of a step.
+     */
+    public LatencyHistogram histogram(String step) {
+        var merged = newHistogram();
+        for (var stripe : stripes) {
+            stripe.mergeInto(step, merged);
+        }
+        return merged;
+    }
+
+    /**
+     * Creates a report of the recorded steps.
+     *
+     * @param elapsed the duration of the run
+     */
+    public LoadReport report(Duration elapsed) {
+        var statistics = new ArrayList<LoadReport.StepStatistics>();
+        for (var name : names()) {
+            var histogram = histogram(name);
+            var stepErrors = errors.get(name);
+            statistics.add(new LoadReport.StepStatistics(name,
+                    histogram.getTotalCount(),
+                    stepErrors == null ? 0 : stepErrors.count.get(),
+                    Duration.ofNanos(histogram.getValueAtPercentile(50)),
+                    Duration.ofNanos(histogram.getValueAtPercentile(99)),
+                    Duration.ofNanos(histogram.getValueAtPercentile(99.9)),
+                    Duration.ofNanos(histogram.getMaxValue()),
+                    stepErrors == null ? List.of() : stepErrors.messages()));
+        }
+        return new LoadReport(elapsed, statistics);
+    }
+
+    /**
+     * Writes the histogram of each step as an interval tagged with the step name in the HdrHistogram log format (.hlog). Maximum
+     * values are given in milliseconds.
+     *
+     * @param file    the log file
+     * @param start   the start of the run
+     * @param elapsed the duration of the run
+     */
+    public void writeLog(Path file, Instant start, Duration elapsed) {
+        var startSeconds = start.toEpochMilli() / 1000.0;
+        try (var writer = new PrintWriter(Files.newBufferedWriter(file, UTF_8))) {
+            writer.format(Locale.US, "#[Histogram log format version 1.3]%n");
+            writer.format(Locale.US, "#[StartTime: %.3f (seconds since epoch), %s]%n", startSeconds, start);
+            writer.format(Locale.US, "#[BaseTime: %.3f (seconds since epoch)]%n", startSeconds);
+            writer.format(Locale.US, "\"StartTimestamp\",\"Interval_Length\",\"Interval_Max\",\"Interval_Compressed_Histogram\"%n");
+            for (var name : names()) {
+                var histogram = histogram(name);
+                writer.format(Locale.US, "Tag=%s,%.3f,%.3f,%.3f,%s%n",
+                        name.replaceAll("[^A-Za-z0-9_.-]", "_"),
+                        0.0,
+                        elapsed.toMillis() / 1000.0,
+                        histogram.getMaxValue() / NANOS_PER_MILLI,
+                        Base64.getEncoder().encodeToString(histogram.encodeCompressed()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write latency log: " + file, e);
+        }
+    }
+
+    private List<String> names() {
+        synchronized (names) {
+            return new ArrayList<>(names);
+        }
+    }
+
+    private static LatencyHistogram newHistogram() {
+        return new LatencyHistogram(LOWEST_DISCERNIBLE_VALUE, HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+    }
+
+    private static class Stripe {
+        private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+        synchronized void record(String step, long nanos) {
+            histograms.computeIfAbsent(step, k -> newHistogram()).record(nanos);
+        }
+
+        synchronized void mergeInto(String step, LatencyHistogram target) {
+            var histogram = histograms.get(step);
+            if (histogram != null) {
+                target.add(histogram);
+            }
+        }
+    }
+
+    private static class Errors {
+        private final AtomicLong count = new AtomicLong();
+        private final List<String> messages = new ArrayList<>();
+
+        void record(Throwable error) {
+            count.incrementAndGet();
+            var message = error.getClass().getSimpleName() + ": " + error.getMessage();
+            synchronized (messages) {
+                if (messages.size() < MAX_ERROR_MESSAGES && !messages.contains(message)) {
+                    messages.add(message);
+                }
+            }
+        }
+
+        List<String> messages() {
+            synchronized (messages) {
+                return List.copyOf(messages);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * The result of a load run: throughput of completed negotiations and the latencies and error rates of each message exchange.
+ */
+public record LoadReport(Duration elapsed, List<StepStatistics> steps) {
+
+    /**
+     * Latencies and errors of a step. The count only includes successful executions.
+     */
+    public record StepStatistics(String name,
+                                 long count,
+                                 long errors,
+                                 Duration p50,
+                                 Duration p99,
+                                 Duration p999,
+                                 Duration max,
+                                 List<String> errorMessages) {
+
+        public double errorRate() {
+            var total = count + errors;
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+
+    /**
+     * Returns the statistics of the negotiations as a whole.
+     */
+    public StepStatistics negotiations() {
+        return steps.stream()
+                .filter(s -> s.name().equals(LatencyRecorder.NEGOTIATION))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No negotiations recorded"));
+    }
+
+    /**
+     * Returns the number of completed negotiations per second.
+     */
+    public double throughput() {
+        var seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : negotiations().count() / seconds;
+    }
+
+    /**
+     * Returns a human-readable report.
+     */
+    public String summary() {
+        var negotiations = negotiations();
+        var builder = new StringBuilder(format("%s negotiations completed and %s failed (%.1f%%) in %.1fs, throughput %.1f/s%n",
+                negotiations.count(), negotiations.errors(), negotiations.errorRate() * 100, elapsed.toMillis() / 1000.0, throughput()));
+        for (var step : steps) {
+            builder.append(format("  %-45s count %6s  errors %4s (%5.1f%%)  p50 %8.1fms  p99 %8.1fms  p99.9 %8.1fms  max %8.1fms%n",
+                    step.name(), step.count(), step.errors(), step.errorRate() * 100,
+                    millis(step.p50()), millis(step.p99()), millis(step.p999()), millis(step.max())));
+            step.errorMessages().forEach(message -> builder.append("      ").append(message).append(System.lineSeparator()));
+        }
+        return builder.toString();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+}
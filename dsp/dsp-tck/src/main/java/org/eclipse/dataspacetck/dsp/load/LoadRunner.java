@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
+import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
+import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
+import org.eclipse.dataspacetck.core.spi.system.SystemLauncher;
+import org.eclipse.dataspacetck.core.system.CallbackServer;
+import org.eclipse.dataspacetck.dsp.system.DspSystemLauncher;
+import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
+import org.eclipse.dataspacetck.dsp.system.api.connector.Consumer;
+import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
+import org.eclipse.dataspacetck.dsp.system.api.pipeline.ProviderNegotiationPipeline;
+
+import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+import static java.lang.Integer.parseInt;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_BACKLOG;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_EXECUTOR;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_POOL_SIZE;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_BACKLOG;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_POOL_SIZE;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.core.system.ConfigFunctions.propertyOrEnv;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.VIRTUAL_MODE;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.createExecutor;
+import static org.eclipse.dataspacetck.core.system.ExecutorFunctions.newVirtualThreadExecutor;
+
+/**
+ * Runs a negotiation scenario repeatedly against the connector under test.
+ * <p>
+ * Negotiations are scheduled open-loop at a fixed arrival rate: the n-th negotiation is due n intervals after the start of the run,
+ * regardless of how long earlier negotiations take. Latencies of the negotiation and its first step are measured from the scheduled
+ * time, so delays in starting a negotiation, for example while the maximum number of concurrent negotiations is running, are not
+ * omitted from the results. Each negotiation uses its own pipeline, callback endpoint and TCK connector, so negotiations do not share
+ * callbacks.
+ */
+public class LoadRunner {
+    public static final String NEGOTIATIONS_CONFIG = TCK_PREFIX + ".load.negotiations";
+    public static final String CONCURRENCY_CONFIG = TCK_PREFIX + ".load.concurrency";
+    public static final String RATE_CONFIG = TCK_PREFIX + ".load.rate";
+    public static final String SCENARIO_CONFIG = TCK_PREFIX + ".load.scenario";
+    public static final String HISTOGRAM_LOG_CONFIG = TCK_PREFIX + ".load.hlog";
+    private static final int DEFAULT_NEGOTIATIONS = 100;
+    private static final int DEFAULT_CONCURRENCY = 100;
+    private static final double DEFAULT_RATE = 10;
+    private static final String SCOPE_PREFIX = "load-";
+
+    private static final Annotation[] CONSUMER_ANNOTATIONS = {new Consumer() {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Consumer.class;
+        }
+    }};
+
+    private Map<String, String> properties = new HashMap<>();
+    private Monitor monitor;
+    private SystemLauncher launcher;
+    private CallbackServer callbackServer;
+    private LoadScenario scenario;
+    private String datasetId;
+    private String offerId;
+    private int negotiations;
+    private int concurrency;
+    private double rate;
+    private Path histogramLog;
+
+    /**
+     * Starts the TCK system, runs the negotiations and returns the report once all of them have completed.
+     */
+    public LoadReport run() {
+        var configuration = SystemConfiguration.Builder.newInstance()
+                .propertyDelegate(k -> property(k, null))
+                .monitor(monitor)
+                .build();
+        launcher.start(configuration);
+        callbackServer = new CallbackServer(property(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS),
+                createExecutor(property(TCK_CALLBACK_EXECUTOR, VIRTUAL_MODE), parseInt(property(TCK_CALLBACK_POOL_SIZE, TCK_DEFAULT_CALLBACK_POOL_SIZE))),
+                parseInt(property(TCK_CALLBACK_BACKLOG, TCK_DEFAULT_CALLBACK_BACKLOG)));
+        callbackServer.start();
+        monitor.message(String.format("Running %s negotiations at %s/s with a concurrency of %s", negotiations, rate, concurrency));
+        try {
+            return execute();
+        } finally {
+            monitor.debug("Callback executor metrics: " + callbackServer.formatMetrics());
+            callbackServer.stop();
+            launcher.close();
+        }
+    }
+
+    private LoadReport execute() {
+        var recorder = new LatencyRecorder();
+        var permits = new Semaphore(concurrency);
+        var executor = newVirtualThreadExecutor();
+        var interval = (long) (1_000_000_000L / rate);
+        var startTime = Instant.now();
+        var start = System.nanoTime();
+        try {
+            for (var i = 0; i < negotiations; i++) {
+                var intendedStart = start + i * interval;
+                var delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    NANOSECONDS.sleep(delay);
+                }
+                permits.acquire();
+                var scopeId = SCOPE_PREFIX + i;
+                executor.execute(() -> {
+                    try {
+                        runNegotiation(scopeId, intendedStart, recorder);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            // wait for the running negotiations to complete
+            permits.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running negotiations", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        if (histogramLog != null) {
+            recorder.writeLog(histogramLog, startTime, elapsed);
+            monitor.message("Latency histograms written to " + histogramLog);
+        }
+        return recorder.report(elapsed);
+    }
+
+    private void runNegotiation(String scopeId, long intendedStart, LatencyRecorder recorder) {
+        var endpoint = callbackServer.createEndpoint();
+        ServiceResolver resolver = (type, configuration) -> CallbackEndpoint.class.equals(type) ? endpoint : null;
+        var timer = recorder.startNegotiation(intendedStart);
+        try {
+            var context = new LoadScenario.Context(
+                    resolve(ProviderNegotiationPipeline.class, scopeId, resolver, new Annotation[0]),
+                    resolve(Connector.class, scopeId, resolver, CONSUMER_ANNOTATIONS),
+                    resolve(ProviderNegotiationMock.class, scopeId, resolver, new Annotation[0]),
+                    datasetId,
+                    offerId);
+            scenario.execute(context, timer);
+            timer.complete();
+        } catch (RuntimeException | AssertionError e) {
+            timer.fail(e);
+            monitor.debug("Negotiation " + scopeId + " failed: " + e.getMessage());
+        } finally {
+            endpoint.close();
+            launcher.scopeClosed(scopeId);
+        }
+    }
+
+    private <T> T resolve(Class<T> type, String scopeId, ServiceResolver resolver, Annotation[] annotations) {
+        var configuration = ServiceConfiguration.Builder.newInstance()
+                .scopeId(scopeId)
+                .annotations(annotations)
+                .propertyDelegate(k -> property(k, null))
+                .build();
+        return Objects.requireNonNull(launcher.getService(type, configuration, resolver), "Service not available: " + type.getName());
+    }
+
+    private String property(String key, String defaultValue) {
+        var value = properties.get(key);
+        return value != null ? value : propertyOrEnv(key, defaultValue);
+    }
+
+    private LoadRunner() {
+    }
+
+    public static class Builder {
+        private final LoadRunner runner;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the TCK configuration, which also contains the load configuration.
+         */
+        public Builder properties(Map<String, String> properties) {
+            runner.properties.putAll(properties);
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            runner.monitor = monitor;
+            return this;
+        }
+
+        /**
+         * Sets the launcher of the TCK system. Defaults to the DSP system launcher.
+         */
+        public Builder launcher(SystemLauncher launcher) {
+            runner.launcher = launcher;
+            return this;
+        }
+
+        public LoadRunner build() {
+            Objects.requireNonNull(runner.monitor, "monitor");
+            if (runner.launcher == null) {
+                runner.launcher = new DspSystemLauncher();
+            }
+            var scenarioName = runner.property(SCENARIO_CONFIG, LoadScenarios.CN_01_03);
+            runner.scenario = LoadScenarios.forName(scenarioName);
+            // uses the same identifiers as the verification test the scenario is based on
+            runner.datasetId = runner.property(scenarioName.toUpperCase() + "_DATASETID", randomUUID().toString());
+            runner.offerId = runner.property(scenarioName.toUpperCase() + "_OFFERID", randomUUID().toString());
+            runner.negotiations = parseInt(runner.property(NEGOTIATIONS_CONFIG, String.valueOf(DEFAULT_NEGOTIATIONS)));
+            runner.concurrency = parseInt(runner.property(CONCURRENCY_CONFIG, String.valueOf(DEFAULT_CONCURRENCY)));
+            runner.rate = Double.parseDouble(runner.property(RATE_CONFIG, String.valueOf(DEFAULT_RATE)));
+            var histogramLog = runner.property(HISTOGRAM_LOG_CONFIG, null);
+            runner.histogramLog = histogramLog == null ? null : Path.of(histogramLog);
+            if (runner.negotiations < 1 || runner.concurrency < 1 || runner.rate <= 0) {
+                throw new IllegalArgumentException("Negotiations, concurrency and rate must be positive");
+            }
+            return runner;
+        }
+
+        private Builder() {
+            runner = new LoadRunner();
+        }
+    }
+}
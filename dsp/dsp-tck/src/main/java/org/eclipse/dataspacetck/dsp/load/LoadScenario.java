@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
+import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
+import org.eclipse.dataspacetck.dsp.system.api.pipeline.ProviderNegotiationPipeline;
+
+/**
+ * A negotiation flow executed repeatedly by the {@link LoadRunner}.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    /**
+     * The services for a single negotiation. Each negotiation has its own pipeline, callback endpoint, connector and mock.
+     */
+    record Context(ProviderNegotiationPipeline pipeline,
+                   Connector consumerConnector,
+                   ProviderNegotiationMock negotiationMock,
+                   String datasetId,
+                   String offerId) {
+    }
+
+    /**
+     * Executes one negotiation, marking the start of each message exchange on the timer.
+     */
+    void execute(Context context, StepTimer timer);
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import org.eclipse.dataspacetck.dsp.verification.cn.ProviderActions;
+
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
+
+/**
+ * The negotiation flows available in load mode. They follow the flows of the provider verification tests with the same name.
+ * Mock actions are bound to the consumer negotiation id, which the provider negotiation carries as its correlation id.
+ */
+public final class LoadScenarios {
+    public static final String CN_01_03 = "CN_01_03";
+    public static final String CN_01_04 = "CN_01_04";
+
+    /**
+     * Returns the scenario with the given name.
+     */
+    public static LoadScenario forName(String name) {
+        return switch (name.toUpperCase()) {
+            case CN_01_03 -> LoadScenarios::requestOfferAcceptAgreeVerifyFinalize;
+            case CN_01_04 -> LoadScenarios::requestAgreeVerifyFinalize;
+            default -> throw new IllegalArgumentException("Unsupported load scenario: " + name);
+        };
+    }
+
+    /**
+     * Contract request, offer received, consumer accepted, provider agreement, consumer verified, provider finalized.
+     */
+    private static void requestOfferAcceptAgreeVerifyFinalize(LoadScenario.Context context, StepTimer timer) {
+        var manager = context.consumerConnector().getConsumerNegotiationManager();
+        context.pipeline()
+                .expectOfferMessage(manager::handleOffer)
+                .then(() -> timer.step("ContractRequestMessage"))
+                .sendRequestMessage(context.datasetId(), context.offerId(), negotiation -> {
+                    var mock = context.negotiationMock().forNegotiation(negotiation.getId());
+                    mock.recordContractRequestedAction(ProviderActions::postOffer);
+                    mock.recordAgreedAction(ProviderActions::postAgreed);
+                    mock.recordVerifiedAction(ProviderActions::postFinalized);
+                })
+                .then(() -> timer.step("ContractOfferMessage"))
+                .thenWaitForState(OFFERED)
+                .expectAgreementMessage(manager::handleAgreement)
+                .then(() -> timer.step("ContractNegotiationEventMessage:accepted"))
+                .acceptLastOffer()
+                .then(() -> timer.step("ContractAgreementMessage"))
+                .thenWaitForState(AGREED)
+                .expectFinalizedEvent(manager::handleFinalized)
+                .then(() -> timer.step("ContractAgreementVerificationMessage"))
+                .sendVerifiedEvent()
+                .then(() -> timer.step("ContractNegotiationEventMessage:finalized"))
+                .thenWaitForState(FINALIZED)
+                .execute();
+    }
+
+    /**
+     * Contract request, provider agreement, consumer verified, provider finalized.
+     */
+    private static void requestAgreeVerifyFinalize(LoadScenario.Context context, StepTimer timer) {
+        var manager = context.consumerConnector().getConsumerNegotiationManager();
+        context.pipeline()
+                .expectAgreementMessage(manager::handleAgreement)
+                .then(() -> timer.step("ContractRequestMessage"))
+                .sendRequestMessage(context.datasetId(), context.offerId(), negotiation -> {
+                    var mock = context.negotiationMock().forNegotiation(negotiation.getId());
+                    mock.recordContractRequestedAction(ProviderActions::postAgreed);
+                    mock.recordVerifiedAction(ProviderActions::postFinalized);
+                })
+                .then(() -> timer.step("ContractAgreementMessage"))
+                .thenWaitForState(AGREED)
+                .expectFinalizedEvent(manager::handleFinalized)
+                .then(() -> timer.step("ContractAgreementVerificationMessage"))
+                .sendVerifiedEvent()
+                .then(() -> timer.step("ContractNegotiationEventMessage:finalized"))
+                .thenWaitForState(FINALIZED)
+                .execute();
+    }
+
+    private LoadScenarios() {
+    }
+}
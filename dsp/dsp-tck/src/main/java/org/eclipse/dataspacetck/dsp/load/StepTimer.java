@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+/**
+ * Times the message exchanges of a single negotiation. A step lasts until the next step starts or the negotiation ends. The first
+ * step and the negotiation are measured from the time the negotiation was scheduled to start.
+ */
+public class StepTimer {
+    private final LatencyRecorder recorder;
+    private final long start;
+    private String step;
+    private long stepStart;
+
+    StepTimer(LatencyRecorder recorder, long intendedStart) {
+        this.recorder = recorder;
+        this.start = intendedStart;
+        this.stepStart = intendedStart;
+    }
+
+    /**
+     * Ends the current step and starts the named one.
+     */
+    public void step(String name) {
+        var now = System.nanoTime();
+        if (step != null) {
+            endStep(now);
+            stepStart = now;
+        }
+        step = name;
+    }
+
+    /**
+     * Ends the current step and records the negotiation as completed.
+     */
+    void complete() {
+        var now = System.nanoTime();
+        endStep(now);
+        recorder.record(LatencyRecorder.NEGOTIATION, now - start);
+    }
+
+    /**
+     * Records the failure against the current step and the negotiation.
+     */
+    void fail(Throwable error) {
+        if (step != null) {
+            recorder.recordError(step, error);
+        }
+        recorder.recordError(LatencyRecorder.NEGOTIATION, error);
+    }
+
+    private void endStep(long now) {
+        if (step != null) {
+            recorder.record(step, now - stepStart);
+            step = null;
+        }
+    }
+}
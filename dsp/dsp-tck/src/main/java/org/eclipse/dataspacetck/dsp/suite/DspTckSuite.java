@@ -16,15 +16,20 @@ package org.eclipse.dataspacetck.dsp.suite;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.system.ConsoleMonitor;
+import org.eclipse.dataspacetck.dsp.load.LoadRunner;
 import org.eclipse.dataspacetck.runtime.ConsoleResultWriter;
+import org.eclipse.dataspacetck.runtime.Shard;
 import org.eclipse.dataspacetck.runtime.TckRuntime;
+import org.eclipse.dataspacetck.runtime.TestResults;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -34,26 +39,65 @@ import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.ANSI_PROPERTY;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.DEBUG_PROPERTY;
 
 /**
- * Launches the DSP TCK and runs the test suite.
+ * Launches the DSP TCK and runs the test suite. With {@code -load}, a contract negotiation scenario is run concurrently against the
+ * connector under test instead, as configured by the {@link LoadRunner} properties.
+ * <p>
+ * The suite can be distributed over several runtimes with {@code -shard index/count}. Each shard writes its results to the file
+ * given by {@code -results}; {@code -durations} balances the shards using the results of a previous run. {@code -merge file...}
+ * combines the result files of the shards into one report.
  */
 public class DspTckSuite {
     private static final String VERSION = "2024.1";
     private static final String CONFIG = "-config";
+    private static final String LOAD = "-load";
+    private static final String SHARD = "-shard";
+    private static final String RESULTS = "-results";
+    private static final String DURATIONS = "-durations";
+    private static final String MERGE = "-merge";
     private static final String DEFAULT_LAUNCHER = "org.eclipse.dataspacetck.dsp.system.DspSystemLauncher";
     private static final String TEST_PACKAGE = "org.eclipse.dataspacetck.dsp.verification";
 
     public static void main(String... args) {
-        var properties = processEnv(args);
+        var options = parseArguments(args == null ? new String[0] : args);
+        var properties = processEnv(option(options, CONFIG));
         if (!properties.containsKey(TCK_LAUNCHER)) {
             properties.put(TCK_LAUNCHER, DEFAULT_LAUNCHER);
         }
         var monitor = createMonitor(properties);
+        if (options.containsKey(MERGE)) {
+            merge(options.get(MERGE), option(options, RESULTS), monitor);
+            return;
+        }
         monitor.enableBold().message("\u001B[1mRunning DSP TCK v" + VERSION + "\u001B[0m").resetMode();
-        var result = TckRuntime.Builder.newInstance()
+        if (options.containsKey(LOAD)) {
+            var report = LoadRunner.Builder.newInstance()
+                    .properties(properties)
+                    .monitor(monitor)
+                    .build().run();
+            monitor.message(report.summary());
+            monitor.resetMode().message("Load run complete");
+            return;
+        }
+        var builder = TckRuntime.Builder.newInstance()
                 .properties(properties)
                 .addPackage(TEST_PACKAGE)
-                .monitor(monitor)
-                .build().execute();
+                .monitor(monitor);
+        var resultFile = option(options, RESULTS);
+        if (options.containsKey(SHARD)) {
+            var shard = Shard.parse(option(options, SHARD));
+            builder.shard(shard);
+            if (resultFile == null) {
+                resultFile = "tck-results-" + shard.index() + "-of-" + shard.count() + ".tsv";
+            }
+        }
+        if (resultFile != null) {
+            builder.resultFile(Path.of(resultFile));
+        }
+        var durations = option(options, DURATIONS);
+        if (durations != null) {
+            builder.classDurations(TestResults.read(Path.of(durations)).classDurations());
+        }
+        var result = builder.build().execute();
 
         new ConsoleResultWriter(monitor).output(result);
 
@@ -67,21 +111,60 @@ public class DspTckSuite {
         return new ConsoleMonitor(debug, ansi);
     }
 
-    private static Map<String, String> processEnv(String[] args) {
-        if (args == null || args.length == 0) {
-            return null;
+    /**
+     * Merges the result files of shards and outputs the combined report, optionally writing the merged results to a file.
+     */
+    private static void merge(List<String> files, String resultFile, Monitor monitor) {
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No result files to merge");
         }
-        if (args.length != 2) {
-            throw new IllegalArgumentException("Invalid number of arguments: " + args.length);
+        var merged = TestResults.merge(files.stream().map(file -> TestResults.read(Path.of(file))).toList());
+        monitor.enableBold().message("\u001B[1mMerged DSP TCK v" + VERSION + " results of " + files.size() + " files\u001B[0m").resetMode();
+        new ConsoleResultWriter(monitor).output(merged);
+        if (resultFile != null) {
+            merged.write(Path.of(resultFile));
         }
-        if (!CONFIG.equals(args[0])) {
-            throw new IllegalArgumentException("Invalid argument: " + args[0]);
+    }
+
+    /**
+     * Parses the arguments into options and their values. All arguments following {@code -merge} are files to merge.
+     */
+    private static Map<String, List<String>> parseArguments(String[] args) {
+        var options = new HashMap<String, List<String>>();
+        for (var i = 0; i < args.length; i++) {
+            var arg = args[i];
+            switch (arg) {
+                case LOAD -> options.put(LOAD, List.of());
+                case MERGE -> {
+                    options.put(MERGE, Arrays.asList(args).subList(i + 1, args.length));
+                    i = args.length;
+                }
+                case CONFIG, SHARD, RESULTS, DURATIONS -> {
+                    if (i + 1 >= args.length) {
+                        throw new IllegalArgumentException("Missing value for argument: " + arg);
+                    }
+                    options.put(arg, List.of(args[++i]));
+                }
+                default -> throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static String option(Map<String, List<String>> options, String name) {
+        var values = options.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static Map<String, String> processEnv(String configFile) {
+        if (configFile == null) {
+            return new HashMap<>();
         }
-        if (!Files.exists(Path.of(args[1]))) {
-            System.err.println("The specified configuration file does not exist: " + args[1]);
+        if (!Files.exists(Path.of(configFile))) {
+            System.err.println("The specified configuration file does not exist: " + configFile);
             return new HashMap<>();
         }
-        try (var reader = new FileReader(args[1])) {
+        try (var reader = new FileReader(configFile)) {
             var properties = new Properties();
             properties.load(reader);
             //noinspection unchecked,rawtypes
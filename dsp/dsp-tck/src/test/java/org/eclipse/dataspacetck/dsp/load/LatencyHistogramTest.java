@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyHistogramTest {
+
+    @Test
+    void verifyPercentilesWithinPrecision() {
+        var histogram = new LatencyHistogram(1, 3_600_000_000L, 3);
+        for (var i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertThat(histogram.getTotalCount()).isEqualTo(10_000L);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(5_000_000L, 5_005_000L);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(9_900_000L, 9_910_000L);
+        assertThat(histogram.getMaxValue()).isBetween(10_000_000L, 10_010_000L);
+    }
+
+    @Test
+    void verifyMerge() {
+        var first = new LatencyHistogram(1, 3_600_000_000L, 3);
+        var second = new LatencyHistogram(1, 3_600_000_000L, 3);
+        first.record(100);
+        second.record(200);
+        second.record(300);
+
+        first.add(second);
+
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+        assertThat(first.getMaxValue()).isEqualTo(300L);
+        assertThat(first.getValueAtPercentile(50)).isEqualTo(200L);
+    }
+
+    @Test
+    void verifyMergeRejectsDifferentLayout() {
+        var first = new LatencyHistogram(1, 3_600_000_000L, 3);
+        var second = new LatencyHistogram(1, 3_600_000_000L, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> first.add(second));
+    }
+
+    @Test
+    void verifyCoordinatedOmissionCorrection() {
+        var histogram = new LatencyHistogram(1, 3_600_000_000L, 3);
+
+        histogram.recordCorrected(1000, 100);
+
+        // 1000 and the omitted 900, 800, ..., 100
+        assertThat(histogram.getTotalCount()).isEqualTo(10L);
+        assertThat(histogram.getValueAtPercentile(10)).isEqualTo(100L);
+    }
+
+    @Test
+    void verifyCompressedEncoding() throws DataFormatException {
+        var histogram = new LatencyHistogram(1, 3_600_000_000L, 3);
+        histogram.record(1);
+        histogram.record(1);
+        histogram.record(5);
+
+        var encoded = ByteBuffer.wrap(histogram.encodeCompressed());
+
+        assertThat(encoded.getInt()).isEqualTo(0x1c849314);
+        var compressed = new byte[encoded.getInt()];
+        encoded.get(compressed);
+        var inflater = new Inflater();
+        inflater.setInput(compressed);
+        var payload = new byte[1024];
+        var length = inflater.inflate(payload);
+        inflater.end();
+
+        var buffer = ByteBuffer.wrap(payload, 0, length);
+        assertThat(buffer.getInt()).isEqualTo(0x1c849313);
+        assertThat(buffer.getInt()).isEqualTo(length - 40);
+        assertThat(buffer.getInt()).isEqualTo(0);
+        assertThat(buffer.getInt()).isEqualTo(3);
+        assertThat(buffer.getLong()).isEqualTo(1L);
+        assertThat(buffer.getLong()).isEqualTo(3_600_000_000L);
+        assertThat(buffer.getDouble()).isEqualTo(1.0);
+        // counts of values 0 to 5: a zero, two ones, a run of three zeros and a one
+        assertThat(decodeCounts(buffer)).isEqualTo(List.of(0L, 2L, -3L, 1L));
+    }
+
+    private List<Long> decodeCounts(ByteBuffer buffer) {
+        var counts = new ArrayList<Long>();
+        while (buffer.hasRemaining()) {
+            long value = 0;
+            var shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            counts.add((value >>> 1) ^ -(value & 1));
+        }
+        return counts;
+    }
+}
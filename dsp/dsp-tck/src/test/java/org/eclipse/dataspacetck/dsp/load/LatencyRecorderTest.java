@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.util.stream.IntStream.rangeClosed;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    void verifyPercentiles() {
+        rangeClosed(1, 1000).forEach(i -> recorder.record("step", i * 1_000_000L));
+
+        var statistics = recorder.report(Duration.ofSeconds(1)).steps().stream()
+                .filter(s -> s.name().equals("step"))
+                .findFirst().orElseThrow();
+
+        assertThat(statistics.count()).isEqualTo(1000);
+        assertThat(statistics.p50().toMillis()).isEqualTo(500);
+        assertThat(statistics.p99().toMillis()).isEqualTo(990);
+        assertThat(statistics.p999().toMillis()).isEqualTo(999);
+        assertThat(statistics.max().toMillis()).isEqualTo(1000);
+    }
+
+    @Test
+    void verifyNegotiationsAndErrors() {
+        var completed = recorder.startNegotiation(System.nanoTime());
+        completed.step("request");
+        completed.complete();
+        var failed = recorder.startNegotiation(System.nanoTime());
+        failed.step("request");
+        failed.fail(new IllegalStateException("expected"));
+
+        var report = recorder.report(Duration.ofSeconds(1));
+
+        assertThat(report.steps().get(0).name()).isEqualTo(LatencyRecorder.NEGOTIATION);
+        assertThat(report.negotiations().count()).isEqualTo(1);
+        assertThat(report.negotiations().errors()).isEqualTo(1);
+        assertThat(report.negotiations().errorRate()).isEqualTo(0.5);
+        assertThat(report.steps().get(1).errorMessages()).containsExactly("IllegalStateException: expected");
+        assertThat(report.summary()).contains("1 negotiations completed and 1 failed");
+    }
+
+    @Test
+    void verifyNegotiationMeasuredFromIntendedStart() {
+        var timer = recorder.startNegotiation(System.nanoTime() - Duration.ofSeconds(2).toNanos());
+        timer.step("request");
+        timer.complete();
+
+        var report = recorder.report(Duration.ofSeconds(2));
+
+        assertThat(report.negotiations().max().toMillis()).isGreaterThanOrEqualTo(2000);
+        assertThat(report.steps().get(1).max().toMillis()).isGreaterThanOrEqualTo(2000);
+    }
+
+    @Test
+    void verifyHistogramLog(@TempDir Path directory) throws IOException {
+        recorder.record("Contract Request", 1_000_000);
+        var file = directory.resolve("load.hlog");
+
+        recorder.writeLog(file, Instant.ofEpochMilli(1_700_000_000_000L), Duration.ofSeconds(3));
+
+        var lines = Files.readAllLines(file);
+        assertThat(lines.get(0)).isEqualTo("#[Histogram log format version 1.3]");
+        assertThat(lines.get(3)).isEqualTo("\"StartTimestamp\",\"Interval_Length\",\"Interval_Max\",\"Interval_Compressed_Histogram\"");
+        assertThat(lines.get(4)).startsWith("Tag=Negotiation,0.000,3.000,0.000,");
+        assertThat(lines.get(5)).startsWith("Tag=Contract_Request,0.000,3.000,1.000,HISTF");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.suite;
+
+import org.eclipse.dataspacetck.core.system.ConsoleMonitor;
+import org.eclipse.dataspacetck.runtime.TckRuntime;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
+
+class ParallelExecutionTest {
+
+    @Test
+    void verifyConcurrentTestClassesUseSeparateScopes() {
+        RecordingSystemLauncher.reset();
+        var properties = Map.of(
+                "dataspacetck.dsp.local.connector", "true",
+                TCK_LAUNCHER, RecordingSystemLauncher.class.getName(),
+                TckRuntime.PARALLEL_PROPERTY, "true",
+                // a fixed parallelism runs the classes concurrently independent of the available processors
+                "junit.jupiter.execution.parallel.config.strategy", "fixed",
+                "junit.jupiter.execution.parallel.config.fixed.parallelism", "4");
+        // the runtime sets the properties as system properties, which must not leak into other tests
+        var previous = new HashMap<String, String>();
+        properties.keySet().forEach(key -> previous.put(key, System.getProperty(key)));
+        try {
+            var result = TckRuntime.Builder.newInstance()
+                    .properties(properties)
+                    .addPackage("org.eclipse.dataspacetck.dsp.verification.cn")
+                    .monitor(new ConsoleMonitor(false, true))
+                    .build().execute();
+
+            assertThat(result.getTestsSucceededCount()).isNotZero();
+            assertThat(result.getFailures()).isEmpty();
+        } finally {
+            previous.forEach(ParallelExecutionTest::restoreProperty);
+        }
+
+        assertThat(RecordingSystemLauncher.STARTS.get()).isEqualTo(1);
+        assertThat(RecordingSystemLauncher.MAX_ACTIVE_SCOPES.get()).isGreaterThan(1);
+
+        var addresses = RecordingSystemLauncher.CALLBACK_ADDRESSES.values();
+        assertThat(addresses).isNotEmpty();
+        // each scope uses a single endpoint that no other scope shares
+        assertThat(addresses.stream().allMatch(scopeAddresses -> scopeAddresses.size() == 1)).isTrue();
+        assertThat(addresses.stream().flatMap(Collection::stream).distinct().count()).isEqualTo(addresses.size());
+
+        var mocks = RecordingSystemLauncher.MOCKS.values();
+        assertThat(mocks).isNotEmpty();
+        Set<Object> distinctMocks = newSetFromMap(new IdentityHashMap<>());
+        mocks.forEach(distinctMocks::addAll);
+        assertThat(distinctMocks).hasSize(mocks.stream().mapToInt(Set::size).sum());
+    }
+
+    private static void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
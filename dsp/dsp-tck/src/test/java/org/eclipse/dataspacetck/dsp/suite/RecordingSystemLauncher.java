@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.suite;
+
+import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
+import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
+import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
+import org.eclipse.dataspacetck.dsp.system.DspSystemLauncher;
+import org.eclipse.dataspacetck.dsp.system.api.mock.ConsumerNegotiationMock;
+import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how the system is started and which services each test scope receives.
+ */
+public class RecordingSystemLauncher extends DspSystemLauncher {
+    static final AtomicInteger STARTS = new AtomicInteger();
+    static final AtomicInteger MAX_ACTIVE_SCOPES = new AtomicInteger();
+    static final Map<String, Set<String>> CALLBACK_ADDRESSES = new ConcurrentHashMap<>();
+    static final Map<String, Set<Object>> MOCKS = new ConcurrentHashMap<>();
+    private static final Set<String> ACTIVE_SCOPES = ConcurrentHashMap.newKeySet();
+
+    static void reset() {
+        STARTS.set(0);
+        MAX_ACTIVE_SCOPES.set(0);
+        CALLBACK_ADDRESSES.clear();
+        MOCKS.clear();
+        ACTIVE_SCOPES.clear();
+    }
+
+    @Override
+    public void start(SystemConfiguration configuration) {
+        STARTS.incrementAndGet();
+        super.start(configuration);
+    }
+
+    @Override
+    public <T> T getService(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
+        var scopeId = configuration.getScopeId();
+        if (ACTIVE_SCOPES.add(scopeId)) {
+            MAX_ACTIVE_SCOPES.accumulateAndGet(ACTIVE_SCOPES.size(), Math::max);
+        }
+        ServiceResolver recordingResolver = (t, c) -> {
+            var resolved = resolver.resolve(t, c);
+            if (resolved instanceof CallbackEndpoint endpoint) {
+                CALLBACK_ADDRESSES.computeIfAbsent(scopeId, k -> ConcurrentHashMap.newKeySet()).add(endpoint.getAddress());
+            }
+            return resolved;
+        };
+        var service = super.getService(type, configuration, recordingResolver);
+        if (service instanceof ProviderNegotiationMock || service instanceof ConsumerNegotiationMock) {
+            MOCKS.computeIfAbsent(scopeId, k -> ConcurrentHashMap.newKeySet()).add(service);
+        }
+        return service;
+    }
+
+    @Override
+    public void scopeClosed(String scopeId) {
+        ACTIVE_SCOPES.remove(scopeId);
+        super.scopeClosed(scopeId);
+    }
+}
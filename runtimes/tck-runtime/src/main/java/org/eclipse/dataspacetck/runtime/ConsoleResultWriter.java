@@ -19,6 +19,7 @@ import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Outputs to the console.
@@ -41,9 +42,7 @@ public class ConsoleResultWriter {
                             f.getTestIdentifier().getSource().get() instanceof MethodSource)
                     .forEach(f -> {
                         var method = (MethodSource) f.getTestIdentifier().getSource().get();
-                        monitor.message(format("\n   %c %s.%s\n", '■', method.getClassName(), method.getMethodName()));
-                        monitor.message("     [" + f.getTestIdentifier().getDisplayName() + "]");
-                        monitor.message("     " + f.getException().getMessage() + "\n");
+                        outputFailure(method.getClassName() + "." + method.getMethodName(), f.getTestIdentifier().getDisplayName(), f.getException().getMessage());
                     });
             monitor.resetMode();
         } else {
@@ -51,4 +50,37 @@ public class ConsoleResultWriter {
         }
     }
 
+    /**
+     * Outputs results read from files, for example the merged results of several shards.
+     */
+    public void output(TestResults results) {
+        if (!results.shards().isEmpty()) {
+            monitor.message("Shards: " + results.shards().stream().map(Shard::toString).collect(joining(", ")));
+        }
+        monitor.message(format("Tests found: %s, aborted: %s, skipped: %s, longest run: %.1fs",
+                results.testsFound(), results.testsAborted(), results.testsSkipped(), results.elapsedMillis() / 1000.0));
+        monitor.message("Passed tests: " + results.testsSucceeded());
+        monitor.message("Failed tests: " + results.testsFailed());
+        var missing = results.missingShards();
+        if (!missing.isEmpty()) {
+            monitor.enableError().message("Missing shards: " + missing.stream().map(Shard::toString).collect(joining(", "))).resetMode();
+        }
+        if (!results.failures().isEmpty()) {
+            monitor.enableError().message("Failures:");
+            results.failures().forEach(f -> {
+                var name = f.methodName() == null ? f.className() : f.className() + "." + f.methodName();
+                outputFailure(name, f.displayName(), f.message());
+            });
+            monitor.resetMode();
+        } else if (missing.isEmpty()) {
+            monitor.enableSuccess().message("🎉😃🚀All tests passed").resetMode();
+        }
+    }
+
+    private void outputFailure(String name, String displayName, String message) {
+        monitor.message(format("\n   %c %s\n", '■', name));
+        monitor.message("     [" + displayName + "]");
+        monitor.message("     " + message + "\n");
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A part of the test suite executed by one of several runtimes. Test classes are assigned to shards deterministically, so runtimes
+ * discovering the same test classes execute disjoint parts of the suite that together cover all classes.
+ *
+ * @param index the one-based index of the shard
+ * @param count the number of shards
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Invalid shard: " + index + "/" + count);
+        }
+    }
+
+    /**
+     * Parses a shard in the form {@code index/count}, for example {@code 2/4}.
+     */
+    public static Shard parse(String value) {
+        var separator = value.indexOf('/');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid shard, expected index/count: " + value);
+        }
+        try {
+            return new Shard(Integer.parseInt(value.substring(0, separator).trim()), Integer.parseInt(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shard, expected index/count: " + value);
+        }
+    }
+
+    /**
+     * Selects the test classes of this shard.
+     * <p>
+     * Without durations, classes are assigned by the hash of their name. Otherwise, classes are assigned longest first to the shard
+     * with the lowest total duration, so shards take about the same time. Classes without a duration are assumed to take the
+     * average duration.
+     *
+     * @param classNames the names of all test classes
+     * @param durations  the durations of test classes in a previous run, may be empty
+     */
+    public List<String> select(Collection<String> classNames, Map<String, Long> durations) {
+        var sorted = new TreeSet<>(classNames);
+        if (durations.isEmpty()) {
+            return sorted.stream().filter(name -> Math.floorMod(name.hashCode(), count) == index - 1).toList();
+        }
+        var average = Math.max((long) durations.values().stream().mapToLong(Long::longValue).average().orElse(1), 1);
+        var byDuration = new ArrayList<>(sorted);
+        byDuration.sort(Comparator.<String>comparingLong(name -> durations.getOrDefault(name, average)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        var loads = new long[count];
+        var selected = new ArrayList<String>();
+        for (var name : byDuration) {
+            var target = 0;
+            for (var i = 1; i < count; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            loads[target] += durations.getOrDefault(name, average);
+            if (target == index - 1) {
+                selected.add(name);
+            }
+        }
+        selected.sort(Comparator.naturalOrder());
+        return selected;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -16,28 +16,50 @@ package org.eclipse.dataspacetck.runtime;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.launcher.core.LauncherFactory;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.String.format;
 import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
 
 /**
  * Bootstraps the JUnit platform using the Jupiter engine and executes configured TCK tests.
+ * <p>
+ * If a shard is set, only the test classes assigned to the shard are executed. The results of each test can be written to a file,
+ * so that the results of shards executed by separate runtimes can be merged with {@link TestResults#merge(List)}.
  */
 public class TckRuntime {
+    /**
+     * Runs test classes and methods concurrently using the parallel execution of the JUnit platform. Explicitly set
+     * {@code junit.jupiter.execution.parallel.*} parameters take precedence.
+     */
+    public static final String PARALLEL_PROPERTY = "dataspacetck.parallel";
     private static final String TEST_POSTFIX = ".*Test";
+    private static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+    private static final String PARALLEL_MODE = "junit.jupiter.execution.parallel.mode.default";
+    private static final String PARALLEL_CLASSES_MODE = "junit.jupiter.execution.parallel.mode.classes.default";
+    private static final String CONCURRENT = "concurrent";
 
     private Monitor monitor;
 
     private List<String> packages = new ArrayList<>();
     private Map<String, String> properties = new HashMap<>();
+    private Shard shard;
+    private Map<String, Long> classDurations = Map.of();
+    private Path resultFile;
 
     public TestExecutionSummary execute() {
         properties.forEach(System::setProperty);
@@ -45,19 +67,61 @@ public class TckRuntime {
         var summaryListener = new SummaryGeneratingListener();
 
         var request = LauncherDiscoveryRequestBuilder.request()
+                .configurationParameters(configurationParameters())
                 .filters(includeClassNamePatterns(TEST_POSTFIX))
                 .selectors(packages.stream().map(DiscoverySelectors::selectPackage).toList())
                 .build();
 
         var launcher = LauncherFactory.create();
+        if (shard != null) {
+            request = selectShard(launcher, request);
+        }
+        var resultsListener = new TestResultsListener(shard == null ? List.of() : List.of(shard));
         launcher.registerTestExecutionListeners(new TckExecutionListener(monitor));
         launcher.registerTestExecutionListeners(summaryListener);
-        launcher.discover(request);
+        launcher.registerTestExecutionListeners(resultsListener);
         launcher.execute(request);
 
+        if (resultFile != null) {
+            resultsListener.getResults().write(resultFile);
+            monitor.message("Test results written to " + resultFile);
+        }
         return summaryListener.getSummary();
     }
 
+    /**
+     * Discovers the test classes and creates a request for the classes assigned to the shard. Nested classes are executed with
+     * their top-level class.
+     */
+    private LauncherDiscoveryRequest selectShard(Launcher launcher, LauncherDiscoveryRequest request) {
+        var testPlan = launcher.discover(request);
+        var classNames = new TreeSet<String>();
+        for (var engine : testPlan.getRoots()) {
+            for (var child : testPlan.getChildren(engine)) {
+                child.getSource()
+                        .filter(ClassSource.class::isInstance)
+                        .map(source -> ((ClassSource) source).getClassName())
+                        .ifPresent(classNames::add);
+            }
+        }
+        var selected = shard.select(classNames, classDurations);
+        monitor.message(format("Shard %s: executing %s of %s test classes", shard, selected.size(), classNames.size()));
+        return LauncherDiscoveryRequestBuilder.request()
+                .configurationParameters(configurationParameters())
+                .selectors(selected.stream().map(DiscoverySelectors::selectClass).toList())
+                .build();
+    }
+
+    private Map<String, String> configurationParameters() {
+        var parameters = new HashMap<>(properties);
+        if (parseBoolean(properties.get(PARALLEL_PROPERTY))) {
+            parameters.putIfAbsent(PARALLEL_ENABLED, "true");
+            parameters.putIfAbsent(PARALLEL_MODE, CONCURRENT);
+            parameters.putIfAbsent(PARALLEL_CLASSES_MODE, CONCURRENT);
+        }
+        return parameters;
+    }
+
     private TckRuntime() {
     }
 
@@ -83,6 +147,30 @@ public class TckRuntime {
             return this;
         }
 
+        /**
+         * Executes only the test classes assigned to the shard.
+         */
+        public Builder shard(Shard shard) {
+            launcher.shard = shard;
+            return this;
+        }
+
+        /**
+         * Sets the durations of test classes in a previous run, which are used to balance the shards.
+         */
+        public Builder classDurations(Map<String, Long> classDurations) {
+            launcher.classDurations = classDurations;
+            return this;
+        }
+
+        /**
+         * Writes the results of the executed tests to the file.
+         */
+        public Builder resultFile(Path resultFile) {
+            launcher.resultFile = resultFile;
+            return this;
+        }
+
         public TckRuntime build() {
             return launcher;
         }
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The results of a test run, which can be written to a file and merged with the results of other shards.
+ * <p>
+ * Results are written as tab-separated lines, one per executed test and failed container, preceded by header lines starting with
+ * {@code #}. Tabs, line breaks and backslashes in values are escaped.
+ *
+ * @param shards        the shards the results were recorded by, empty if the suite was not sharded
+ * @param elapsedMillis the duration of the run; for merged results the duration of the longest shard
+ * @param results       the results
+ */
+public record TestResults(List<Shard> shards, long elapsedMillis, List<TestResult> results) {
+    private static final String SHARD_HEADER = "#shard";
+    private static final String ELAPSED_HEADER = "#elapsed";
+    private static final String TEST = "TEST";
+    private static final String CONTAINER = "CONTAINER";
+    private static final int FIELDS = 7;
+
+    /**
+     * The status of a test.
+     */
+    public enum Status {
+        SUCCESSFUL,
+        FAILED,
+        ABORTED,
+        SKIPPED
+    }
+
+    /**
+     * The result of a test or container.
+     *
+     * @param test           true for a test, false for a container such as a test class
+     * @param status         the status
+     * @param durationMillis the execution time
+     * @param className      the name of the test class or null if the container is not a class
+     * @param methodName     the name of the test method or null for a container
+     * @param displayName    the display name
+     * @param message        the failure message or skip reason, null if there is none
+     */
+    public record TestResult(boolean test,
+                             Status status,
+                             long durationMillis,
+                             String className,
+                             String methodName,
+                             String displayName,
+                             String message) {
+    }
+
+    /**
+     * Combines the results of several shards. The shards must be part of the same partitioning.
+     */
+    public static TestResults merge(List<TestResults> parts) {
+        var shards = new ArrayList<Shard>();
+        var results = new ArrayList<TestResult>();
+        long elapsed = 0;
+        for (var part : parts) {
+            for (var shard : part.shards()) {
+                if (shards.contains(shard)) {
+                    throw new IllegalArgumentException("Shard merged twice: " + shard);
+                }
+                if (!shards.isEmpty() && shards.get(0).count() != shard.count()) {
+                    throw new IllegalArgumentException("Shards of different partitionings: " + shards.get(0) + ", " + shard);
+                }
+                shards.add(shard);
+            }
+            results.addAll(part.results());
+            elapsed = Math.max(elapsed, part.elapsedMillis());
+        }
+        shards.sort((s1, s2) -> Integer.compare(s1.index(), s2.index()));
+        return new TestResults(List.copyOf(shards), elapsed, List.copyOf(results));
+    }
+
+    /**
+     * Returns the shards of the partitioning whose results are missing.
+     */
+    public List<Shard> missingShards() {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        var count = shards.get(0).count();
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Shard(i, count))
+                .filter(shard -> !shards.contains(shard))
+                .toList();
+    }
+
+    public long testsFound() {
+        return results.stream().filter(TestResult::test).count();
+    }
+
+    public long testsSucceeded() {
+        return count(Status.SUCCESSFUL);
+    }
+
+    public long testsFailed() {
+        return count(Status.FAILED);
+    }
+
+    public long testsAborted() {
+        return count(Status.ABORTED);
+    }
+
+    public long testsSkipped() {
+        return count(Status.SKIPPED);
+    }
+
+    public long containersFailed() {
+        return results.stream().filter(r -> !r.test() && r.status() == Status.FAILED).count();
+    }
+
+    /**
+     * Returns the failed tests and containers.
+     */
+    public List<TestResult> failures() {
+        return results.stream().filter(r -> r.status() == Status.FAILED).toList();
+    }
+
+    /**
+     * Returns the total execution time of the tests of each class, for balancing shards in later runs.
+     */
+    public Map<String, Long> classDurations() {
+        var durations = new HashMap<String, Long>();
+        results.stream()
+                .filter(r -> r.test() && r.className() != null)
+                .forEach(r -> durations.merge(r.className(), r.durationMillis(), Long::sum));
+        return durations;
+    }
+
+    public void write(Path file) {
+        var lines = new ArrayList<String>();
+        shards.forEach(shard -> lines.add(SHARD_HEADER + "\t" + shard));
+        lines.add(ELAPSED_HEADER + "\t" + elapsedMillis);
+        for (var result : results) {
+            lines.add(String.join("\t",
+                    result.test() ? TEST : CONTAINER,
+                    result.status().name(),
+                    String.valueOf(result.durationMillis()),
+                    escape(result.className()),
+                    escape(result.methodName()),
+                    escape(result.displayName()),
+                    escape(result.message())));
+        }
+        try {
+            Files.write(file, lines, UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write test results: " + file, e);
+        }
+    }
+
+    public static TestResults read(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read test results: " + file, e);
+        }
+        var shards = new ArrayList<Shard>();
+        var results = new ArrayList<TestResult>();
+        long elapsed = 0;
+        for (var line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            var fields = line.split("\t", -1);
+            if (SHARD_HEADER.equals(fields[0])) {
+                shards.add(Shard.parse(fields[1]));
+            } else if (ELAPSED_HEADER.equals(fields[0])) {
+                elapsed = Long.parseLong(fields[1]);
+            } else if (fields.length == FIELDS) {
+                results.add(new TestResult(TEST.equals(fields[0]),
+                        Status.valueOf(fields[1]),
+                        Long.parseLong(fields[2]),
+                        unescape(fields[3]),
+                        unescape(fields[4]),
+                        unescape(fields[5]),
+                        unescape(fields[6])));
+            } else {
+                throw new IllegalArgumentException("Invalid test result in " + file + ": " + line);
+            }
+        }
+        return new TestResults(List.copyOf(shards), elapsed, List.copyOf(results));
+    }
+
+    private long count(Status status) {
+        return results.stream().filter(r -> r.test() && r.status() == status).count();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        var builder = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case '\t' -> builder.append("\\t");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                default -> builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        var builder = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                var next = value.charAt(++i);
+                builder.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
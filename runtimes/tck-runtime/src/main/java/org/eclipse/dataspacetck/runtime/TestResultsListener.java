@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the result of each test and failed container. Tests may execute concurrently.
+ */
+class TestResultsListener implements TestExecutionListener {
+    private final List<Shard> shards;
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final List<TestResults.TestResult> results = new ArrayList<>();
+    private long planStarted;
+    private long planFinished;
+
+    TestResultsListener(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        planStarted = System.currentTimeMillis();
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        planFinished = System.currentTimeMillis();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        started.put(identifier.getUniqueId(), System.nanoTime());
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier identifier, String reason) {
+        if (identifier.isTest()) {
+            add(identifier, TestResults.Status.SKIPPED, 0, reason);
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        var start = started.remove(identifier.getUniqueId());
+        var duration = start == null ? 0 : (System.nanoTime() - start) / 1_000_000;
+        var status = switch (result.getStatus()) {
+            case SUCCESSFUL -> TestResults.Status.SUCCESSFUL;
+            case ABORTED -> TestResults.Status.ABORTED;
+            case FAILED -> TestResults.Status.FAILED;
+        };
+        // containers are only recorded if they fail, for example in a @BeforeAll method
+        if (identifier.isTest() || status == TestResults.Status.FAILED) {
+            add(identifier, status, duration, result.getThrowable().map(Throwable::getMessage).orElse(null));
+        }
+    }
+
+    TestResults getResults() {
+        synchronized (results) {
+            return new TestResults(shards, Math.max(planFinished - planStarted, 0), List.copyOf(results));
+        }
+    }
+
+    private void add(TestIdentifier identifier, TestResults.Status status, long duration, String message) {
+        String className = null;
+        String methodName = null;
+        var source = identifier.getSource().orElse(null);
+        if (source instanceof MethodSource method) {
+            className = method.getClassName();
+            methodName = method.getMethodName();
+        } else if (source instanceof ClassSource type) {
+            className = type.getClassName();
+        }
+        var result = new TestResults.TestResult(identifier.isTest(), status, duration, className, methodName, identifier.getDisplayName(), message);
+        synchronized (results) {
+            results.add(result);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardTest {
+    private final List<String> classNames = range(0, 20).mapToObj(i -> "org.eclipse.Test" + i).toList();
+
+    @Test
+    void verifyShardsPartitionClasses() {
+        var selected = new ArrayList<String>();
+        for (var i = 1; i <= 3; i++) {
+            selected.addAll(new Shard(i, 3).select(classNames, Map.of()));
+        }
+
+        assertThat(selected.size()).isEqualTo(classNames.size());
+        assertThat(new HashSet<>(selected)).isEqualTo(new HashSet<>(classNames));
+    }
+
+    @Test
+    void verifyShardsBalancedByDuration() {
+        var durations = new HashMap<String, Long>();
+        range(0, 20).forEach(i -> durations.put("org.eclipse.Test" + i, i * 100L + 50));
+        var loads = new long[3];
+        var selected = new ArrayList<String>();
+        for (var i = 1; i <= 3; i++) {
+            for (var name : new Shard(i, 3).select(classNames, durations)) {
+                loads[i - 1] += durations.get(name);
+                selected.add(name);
+            }
+        }
+
+        assertThat(new HashSet<>(selected)).isEqualTo(new HashSet<>(classNames));
+        for (var load : loads) {
+            // the total is 20000, the longest class takes 1950
+            assertThat(load).isBetween(6000L, 7400L);
+        }
+    }
+
+    @Test
+    void verifySelectionIsDeterministic() {
+        var shard = new Shard(2, 4);
+        var reversed = new ArrayList<>(classNames);
+        Collections.reverse(reversed);
+
+        assertThat(shard.select(classNames, Map.of())).isEqualTo(shard.select(reversed, Map.of()));
+    }
+
+    @Test
+    void verifyParse() {
+        assertThat(Shard.parse("2/4")).isEqualTo(new Shard(2, 4));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("5/4"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("0/4"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("2"));
+    }
+}
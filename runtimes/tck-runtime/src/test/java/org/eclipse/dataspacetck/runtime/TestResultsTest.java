@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.runtime.TestResults.Status.FAILED;
+import static org.eclipse.dataspacetck.runtime.TestResults.Status.SKIPPED;
+import static org.eclipse.dataspacetck.runtime.TestResults.Status.SUCCESSFUL;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestResultsTest {
+
+    @Test
+    void verifyWriteAndRead(@TempDir Path directory) {
+        var results = new TestResults(List.of(new Shard(1, 2)), 1000, List.of(
+                new TestResults.TestResult(true, SUCCESSFUL, 10, "org.eclipse.Test1", "test", "test()", null),
+                new TestResults.TestResult(true, FAILED, 20, "org.eclipse.Test1", "fails", "fails()", "expected:\n\t<1> \\ <2>")));
+        var file = directory.resolve("results.tsv");
+
+        results.write(file);
+
+        assertThat(TestResults.read(file)).isEqualTo(results);
+    }
+
+    @Test
+    void verifyMerge() {
+        var first = new TestResults(List.of(new Shard(1, 3)), 1000, List.of(
+                new TestResults.TestResult(true, SUCCESSFUL, 10, "org.eclipse.Test1", "test", "test()", null),
+                new TestResults.TestResult(true, SKIPPED, 0, "org.eclipse.Test1", "skipped", "skipped()", "disabled")));
+        var second = new TestResults(List.of(new Shard(3, 3)), 2000, List.of(
+                new TestResults.TestResult(true, FAILED, 20, "org.eclipse.Test2", "fails", "fails()", "failed"),
+                new TestResults.TestResult(false, FAILED, 5, "org.eclipse.Test3", null, "Test3", "setup failed")));
+
+        var merged = TestResults.merge(List.of(second, first));
+
+        assertThat(merged.shards()).isEqualTo(List.of(new Shard(1, 3), new Shard(3, 3)));
+        assertThat(merged.missingShards()).isEqualTo(List.of(new Shard(2, 3)));
+        assertThat(merged.elapsedMillis()).isEqualTo(2000L);
+        assertThat(merged.testsFound()).isEqualTo(3L);
+        assertThat(merged.testsSucceeded()).isEqualTo(1L);
+        assertThat(merged.testsFailed()).isEqualTo(1L);
+        assertThat(merged.testsSkipped()).isEqualTo(1L);
+        assertThat(merged.containersFailed()).isEqualTo(1L);
+        assertThat(merged.failures().size()).isEqualTo(2);
+        assertThat(merged.classDurations()).isEqualTo(Map.of("org.eclipse.Test1", 10L, "org.eclipse.Test2", 20L));
+    }
+
+    @Test
+    void verifyMergeRejectsDuplicateShards() {
+        var results = new TestResults(List.of(new Shard(1, 2)), 1000, List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> TestResults.merge(List.of(results, results)));
+    }
+
+    @Test
+    void verifyMergeRejectsDifferentPartitionings() {
+        var first = new TestResults(List.of(new Shard(1, 2)), 1000, List.of());
+        var second = new TestResults(List.of(new Shard(2, 3)), 1000, List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> TestResults.merge(List.of(first, second)));
+    }
+}
@@ -44,3 +44,4 @@ include("dsp:dsp-api")
 include("dsp:dsp-system")
 include("dsp:dsp-contract-negotiation")
 include("dsp:dsp-tck")
+include("benchmarks")